@@ -0,0 +1,180 @@
+package com.example.taskList.benchmarks;
+
+import com.example.taskList.repository.DataSourceConfig;
+import com.example.taskList.repository.TaskRepository;
+import com.example.taskList.repository.UserRepository;
+import com.example.taskList.repository.impl.TaskRepositoryImpl;
+import com.example.taskList.repository.impl.UserRepositoryImpl;
+import com.example.taskList.repository.jdbc.JdbcExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Seeded stand-in database shared by the benchmarks.
+ * <p>
+ * Uses an in-memory H2 database in PostgreSQL mode unless
+ * {@code -Dbenchmark.jdbc.url} (with {@code benchmark.jdbc.username} and
+ * {@code benchmark.jdbc.password}) points at a local PostgreSQL instance.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    public static final String HEAVY_USERNAME = "heavy@example.com";
+    public static final String LIGHT_USERNAME = "light@example.com";
+
+    private static final String DEFAULT_URL = "jdbc:h2:mem:benchmarks;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private final HikariDataSource dataSource;
+    private long heavyUserId;
+    private long lightUserId;
+    private long sampleTaskId;
+
+    public BenchmarkDatabase() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("benchmark.jdbc.url", DEFAULT_URL));
+        config.setUsername(System.getProperty("benchmark.jdbc.username", "sa"));
+        config.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        config.setMaximumPoolSize(4);
+        this.dataSource = new HikariDataSource(config);
+    }
+
+    public void seed(int heavyTaskCount) throws SQLException {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.addScript(new ClassPathResource("benchmark-reset.sql"));
+        populator.addScript(new ClassPathResource("liquibase/changesets/V1__init.sql"));
+        populator.addScript(new ClassPathResource("liquibase/changesets/V3__task_indexes.sql"));
+        populator.addScript(new ClassPathResource("liquibase/changesets/V6__task_version.sql"));
+        populator.addScript(new ClassPathResource("liquibase/changesets/V8__task_soft_delete.sql"));
+        populator.execute(dataSource);
+
+        try (Connection connection = dataSource.getConnection()) {
+            heavyUserId = insertUser(connection, HEAVY_USERNAME);
+            lightUserId = insertUser(connection, LIGHT_USERNAME);
+            sampleTaskId = insertTasks(connection, heavyUserId, heavyTaskCount);
+            insertTasks(connection, lightUserId, 10);
+        }
+    }
+
+    public long countRows(String sql, Object parameter) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select count(*) from (" + sql + ") q")) {
+            statement.setObject(1, parameter);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    public TaskRepository taskRepository(String backend) throws Exception {
+        return "jdbc".equals(backend)
+                ? new TaskRepositoryImpl(jdbcExecutor())
+                : sqlSessionTemplate().getMapper(TaskRepository.class);
+    }
+
+    public UserRepository userRepository(String backend) throws Exception {
+        return "jdbc".equals(backend)
+                ? new UserRepositoryImpl(jdbcExecutor())
+                : sqlSessionTemplate().getMapper(UserRepository.class);
+    }
+
+    public long getHeavyUserId() {
+        return heavyUserId;
+    }
+
+    public long getLightUserId() {
+        return lightUserId;
+    }
+
+    public long getSampleTaskId() {
+        return sampleTaskId;
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    private JdbcExecutor jdbcExecutor() {
+        return new JdbcExecutor(new DataSourceConfig(dataSource), List.of());
+    }
+
+    private SqlSessionTemplate sqlSessionTemplate() throws Exception {
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver()
+                .getResources("classpath:mybatis/mapper/*.xml"));
+        SqlSessionFactory factory = factoryBean.getObject();
+        return new SqlSessionTemplate(factory);
+    }
+
+    private static long insertUser(Connection connection, String username) throws SQLException {
+        long userId;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into users (name, username, password) values (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, username);
+            statement.setString(2, username);
+            statement.setString(3, "$2a$10$fFLij9aYgaNCFPTL9WcA/uoCRukxnwf.v0Q8nrEE0skrCNmGsxY7m");
+            statement.executeUpdate();
+            try (ResultSet rs = statement.getGeneratedKeys()) {
+                rs.next();
+                userId = rs.getLong(1);
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into users_roles (user_id, role) values (?, ?)")) {
+            for (String role : List.of("ROLE_USER", "ROLE_ADMIN")) {
+                statement.setLong(1, userId);
+                statement.setString(2, role);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return userId;
+    }
+
+    private static long insertTasks(Connection connection, long userId, int count) throws SQLException {
+        long firstId = -1;
+        try (PreparedStatement tasks = connection.prepareStatement(
+                "insert into tasks (title, description, status, expiration_date) values (?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement links = connection.prepareStatement(
+                     "insert into users_tasks (user_id, task_id) values (?, ?)")) {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < count; i++) {
+                tasks.setString(1, "Task " + i);
+                tasks.setString(2, i % 2 == 0 ? null : "Description of task " + i);
+                tasks.setString(3, i % 3 == 0 ? "DONE" : "TODO");
+                tasks.setTimestamp(4, Timestamp.valueOf(now.plusHours(i)));
+                tasks.executeUpdate();
+                try (ResultSet rs = tasks.getGeneratedKeys()) {
+                    rs.next();
+                    long taskId = rs.getLong(1);
+                    if (firstId < 0) {
+                        firstId = taskId;
+                    }
+                    links.setLong(1, userId);
+                    links.setLong(2, taskId);
+                    links.addBatch();
+                }
+            }
+            links.executeBatch();
+        }
+        return firstId;
+    }
+}
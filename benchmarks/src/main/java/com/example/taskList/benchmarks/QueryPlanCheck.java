@@ -0,0 +1,330 @@
+package com.example.taskList.benchmarks;
+
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskFilter;
+import com.example.taskList.domain.task.TaskSearch;
+import com.example.taskList.domain.user.Role;
+import com.example.taskList.domain.user.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Runs {@code EXPLAIN (FORMAT JSON)} for every statement in TaskMapper.xml,
+ * UserMapper.xml, ReminderMapper.xml and RefreshTokenMapper.xml against a
+ * scaled dataset in a local PostgreSQL instance and
+ * exits non-zero on sequential scans of the application tables or on cost
+ * regressions against a recorded baseline.
+ * <p>
+ * {@code -Dbenchmark.jdbc.url}, {@code benchmark.jdbc.username} and
+ * {@code benchmark.jdbc.password} select the database; the check works in its
+ * own {@code query_plan} schema. Costs are compared against
+ * {@code query-plan-baseline.properties} on the classpath next to this class,
+ * or against {@code -Dqueryplan.baseline} if given; a missing baseline or a
+ * statement without a recorded cost is a failure.
+ * {@code -Dqueryplan.write-baseline=true} records the current costs instead of
+ * comparing them, into {@code -Dqueryplan.baseline} or the source tree copy of
+ * the classpath baseline.
+ */
+public final class QueryPlanCheck {
+
+    private static final String SCHEMA = "query_plan";
+    private static final Set<String> NAMESPACES = Set.of(
+            "com.example.taskList.repository.TaskRepository",
+            "com.example.taskList.repository.UserRepository",
+            "com.example.taskList.repository.ReminderRepository",
+            "com.example.taskList.repository.RefreshTokenRepository"
+    );
+    private static final Set<String> LARGE_TABLES = Set.of("users", "tasks", "users_tasks", "users_roles");
+    private static final String BASELINE_RESOURCE = "query-plan-baseline.properties";
+    private static final Path BASELINE_SOURCE = Path.of("src/main/resources/com/example/taskList/benchmarks", BASELINE_RESOURCE);
+
+    private final int users = Integer.getInteger("queryplan.users", 2000);
+    private final int tasksPerUser = Integer.getInteger("queryplan.tasks-per-user", 100);
+    private final double costThreshold = Double.parseDouble(System.getProperty("queryplan.cost-threshold", "0.25"));
+    private final String baselinePath = System.getProperty("queryplan.baseline");
+    private final boolean writeBaseline = Boolean.getBoolean("queryplan.write-baseline");
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            throw new IllegalStateException("-Dbenchmark.jdbc.url must point at a PostgreSQL database.");
+        }
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.username", "postgres"),
+                System.getProperty("benchmark.jdbc.password", ""))) {
+            List<String> failures = new QueryPlanCheck().run(connection);
+            failures.forEach(failure -> System.out.println("FAIL " + failure));
+            if (!failures.isEmpty()) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private List<String> run(Connection connection) throws Exception {
+        createSchema(connection);
+        seed(connection);
+
+        Properties baseline = writeBaseline ? null : loadBaseline();
+        Properties costs = new Properties();
+        List<String> failures = new ArrayList<>();
+        if (!writeBaseline && baseline == null) {
+            failures.add("no query plan baseline found; record one with -Dqueryplan.write-baseline=true");
+        }
+        Map<String, Object> parameters = sampleParameters(connection);
+        for (MappedStatement statement : mappedStatements(connection)) {
+            JsonNode plan = explain(connection, statement, parameters);
+            double cost = plan.path("Total Cost").asDouble();
+            costs.setProperty(statement.getId(), Double.toString(cost));
+            System.out.printf("%-70s cost=%.2f%n", statement.getId(), cost);
+
+            List<String> scans = new ArrayList<>();
+            collectSequentialScans(plan, scans);
+            for (String table : scans) {
+                failures.add(statement.getId() + ": sequential scan on " + table);
+            }
+            String expected = baseline == null ? null : baseline.getProperty(statement.getId());
+            if (baseline != null && expected == null) {
+                failures.add(statement.getId() + ": no baseline cost recorded");
+            } else if (expected != null && cost > Double.parseDouble(expected) * (1 + costThreshold)) {
+                failures.add(String.format("%s: cost %.2f exceeds baseline %s by more than %.0f%%",
+                        statement.getId(), cost, expected, costThreshold * 100));
+            }
+        }
+        if (writeBaseline) {
+            Path target = baselinePath != null ? Path.of(baselinePath) : BASELINE_SOURCE;
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            try (Writer writer = Files.newBufferedWriter(target)) {
+                costs.store(writer, "EXPLAIN total costs at " + users + " users x " + tasksPerUser + " tasks");
+            }
+            System.out.println("Baseline written to " + target.toAbsolutePath());
+        }
+        return failures;
+    }
+
+    private static void createSchema(Connection connection) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop schema if exists " + SCHEMA + " cascade");
+            statement.execute("create schema " + SCHEMA);
+            statement.execute("set search_path to " + SCHEMA);
+        }
+        Resource[] changesets = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:liquibase/changesets/V*.sql");
+        Arrays.sort(changesets, Comparator.comparingInt(QueryPlanCheck::version));
+        for (Resource changeset : changesets) {
+            if (!changeset.getFilename().contains("insert_data")) {
+                ScriptUtils.executeSqlScript(connection, changeset);
+            }
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                insert into users (name, username, password)
+                select 'User ' || g, 'user' || g || '@example.com', 'password'
+                from generate_series(1, ?) g""")) {
+            statement.setInt(1, users);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("""
+                insert into tasks (title, description, status, expiration_date)
+                select 'Task ' || g,
+                       case when g % 2 = 0 then 'Description of task ' || g end,
+                       case when g % 3 = 0 then 'DONE' when g % 3 = 1 then 'TODO' else 'IN_PROGRESS' end,
+                       now() + g * interval '1 minute'
+                from generate_series(1, ?) g""")) {
+            statement.setLong(1, (long) users * tasksPerUser);
+            statement.executeUpdate();
+        }
+        try (PreparedStatement statement = connection.prepareStatement("""
+                insert into users_tasks (user_id, task_id)
+                select u.id, t.id
+                from tasks t
+                    join users u on u.username = 'user' || ((t.id - 1) / ? + 1) || '@example.com'""")) {
+            statement.setInt(1, tasksPerUser);
+            statement.executeUpdate();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into users_roles (user_id, role) select id, 'ROLE_USER' from users");
+            statement.execute("analyze");
+        }
+    }
+
+    private Map<String, Object> sampleParameters(Connection connection) throws SQLException {
+        long userId;
+        long taskId;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     select user_id, min(task_id)
+                     from users_tasks
+                     where user_id = (select id from users where username = 'user%d@example.com')
+                     group by user_id""".formatted(users / 2))) {
+            rs.next();
+            userId = rs.getLong(1);
+            taskId = rs.getLong(2);
+        }
+
+        Task task = new Task();
+        task.setId(taskId);
+        task.setTitle("Task");
+        task.setDescription("Description");
+        task.setStatus(Status.TODO);
+        task.setExpirationDate(LocalDateTime.now());
+
+        TaskFilter filter = new TaskFilter();
+        filter.setAfterId(taskId);
+        filter.setStatus(Status.TODO);
+        filter.setExpiresFrom(LocalDateTime.now());
+        filter.setExpiresTo(LocalDateTime.now().plusDays(30));
+        filter.setLimit(50);
+
+        TaskSearch search = new TaskSearch();
+        search.setQuery("task description");
+        search.setAfterRank(0.1f);
+        search.setAfterId(taskId);
+        search.setLimit(20);
+
+        User user = new User();
+        user.setName("User");
+        user.setUsername("new-user@example.com");
+        user.setPassword("password");
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", taskId);
+        parameters.put("userID", userId);
+        parameters.put("userId", userId);
+        parameters.put("taskId", taskId);
+        parameters.put("taskIds", List.of(taskId, taskId + 1));
+        parameters.put("ids", List.of(taskId, taskId + 1));
+        parameters.put("tasks", List.of(task, task));
+        parameters.put("filter", filter);
+        parameters.put("search", search);
+        parameters.put("fromStatus", Status.TODO);
+        parameters.put("toStatus", Status.DONE);
+        parameters.put("overdueOnly", true);
+        parameters.put("title", task.getTitle());
+        parameters.put("description", task.getDescription());
+        parameters.put("status", task.getStatus());
+        parameters.put("expirationDate", task.getExpirationDate());
+        parameters.put("name", "User");
+        parameters.put("username", "user" + users / 2 + "@example.com");
+        parameters.put("password", "password");
+        parameters.put("role", Role.ROLE_USER);
+        parameters.put("user", user);
+        parameters.put("users", List.of(user));
+        parameters.put("key", 1L);
+        parameters.put("scannedUntil", LocalDateTime.now());
+        parameters.put("after", LocalDateTime.now());
+        parameters.put("until", LocalDateTime.now().plusMinutes(2));
+        parameters.put("afterId", Long.MAX_VALUE);
+        parameters.put("limit", 1000);
+        parameters.put("jti", UUID.randomUUID());
+        parameters.put("sessionId", UUID.randomUUID());
+        parameters.put("expiresAt", LocalDateTime.now().plusDays(30));
+        parameters.put("now", LocalDateTime.now());
+        parameters.put("fromId", taskId);
+        parameters.put("toId", taskId + 1000);
+        parameters.put("deletedBefore", LocalDateTime.now().minusDays(1));
+        parameters.put("before", LocalDateTime.now());
+        return parameters;
+    }
+
+    private static List<MappedStatement> mappedStatements(Connection connection) throws Exception {
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(new SingleConnectionDataSource(connection, true));
+        factoryBean.setMapperLocations(new PathMatchingResourcePatternResolver()
+                .getResources("classpath:mybatis/mapper/*.xml"));
+        Configuration configuration = factoryBean.getObject().getConfiguration();
+        Map<String, MappedStatement> statements = new TreeMap<>();
+        for (Object candidate : configuration.getMappedStatements()) {
+            if (candidate instanceof MappedStatement statement
+                    && NAMESPACES.contains(statement.getId().substring(0, statement.getId().lastIndexOf('.')))) {
+                statements.put(statement.getId(), statement);
+            }
+        }
+        return new ArrayList<>(statements.values());
+    }
+
+    private JsonNode explain(Connection connection,
+                             MappedStatement statement,
+                             Map<String, Object> parameters) throws Exception {
+        BoundSql boundSql = statement.getBoundSql(parameters);
+        try (PreparedStatement explain = connection.prepareStatement("explain (format json) " + boundSql.getSql())) {
+            new DefaultParameterHandler(statement, parameters, boundSql).setParameters(explain);
+            try (ResultSet rs = explain.executeQuery()) {
+                rs.next();
+                return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode plan, List<String> tables) {
+        String relation = plan.path("Relation Name").asText();
+        if ("Seq Scan".equals(plan.path("Node Type").asText()) && LARGE_TABLES.contains(relation)) {
+            tables.add(relation);
+        }
+        for (JsonNode child : plan.path("Plans")) {
+            collectSequentialScans(child, tables);
+        }
+    }
+
+    private Properties loadBaseline() throws IOException {
+        Properties baseline = new Properties();
+        if (baselinePath != null) {
+            Path path = Path.of(baselinePath);
+            if (!Files.exists(path)) {
+                return null;
+            }
+            try (Reader reader = Files.newBufferedReader(path)) {
+                baseline.load(reader);
+            }
+            return baseline;
+        }
+        try (InputStream in = QueryPlanCheck.class.getResourceAsStream(BASELINE_RESOURCE)) {
+            if (in == null) {
+                return null;
+            }
+            baseline.load(in);
+        }
+        return baseline;
+    }
+
+    private static int version(Resource changeset) {
+        String filename = changeset.getFilename();
+        return Integer.parseInt(filename.substring(1, filename.indexOf("__")));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.taskList.benchmarks;
+
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.user.User;
+import com.example.taskList.repository.TaskRepository;
+import com.example.taskList.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final String FIND_BY_USERNAME_ROWS = """
+            select u.id
+            from users u
+                left join users_roles ur on u.id = ur.user_id
+                left join users_tasks ut on u.id = ut.user_id
+                left join tasks t on ut.task_id = t.id
+            where u.username = ?""";
+
+    private static final String FIND_CREDENTIALS_BY_USERNAME_ROWS = """
+            select u.id
+            from users u
+                left join users_roles ur on u.id = ur.user_id
+            where u.username = ?
+            group by u.id""";
+
+    @Param({"mybatis", "jdbc"})
+    public String backend;
+
+    @Param({"100", "5000"})
+    public int heavyTaskCount;
+
+    private BenchmarkDatabase database;
+    private TaskRepository taskRepository;
+    private UserRepository userRepository;
+    private Task updatedTask;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        database = new BenchmarkDatabase();
+        database.seed(heavyTaskCount);
+        taskRepository = database.taskRepository(backend);
+        userRepository = database.userRepository(backend);
+
+        updatedTask = taskRepository.findById(database.getSampleTaskId()).orElseThrow();
+
+        System.out.printf("%nRows read for %s: findByUsername=%d, findCredentialsByUsername=%d%n",
+                BenchmarkDatabase.HEAVY_USERNAME,
+                database.countRows(FIND_BY_USERNAME_ROWS, BenchmarkDatabase.HEAVY_USERNAME),
+                database.countRows(FIND_CREDENTIALS_BY_USERNAME_ROWS, BenchmarkDatabase.HEAVY_USERNAME));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Optional<Task> findById() {
+        return taskRepository.findById(database.getSampleTaskId());
+    }
+
+    @Benchmark
+    public List<Task> findAllByUserId() {
+        return taskRepository.findAllByUserId(database.getHeavyUserId());
+    }
+
+    @Benchmark
+    public Optional<User> findByUsername() {
+        return userRepository.findByUsername(BenchmarkDatabase.HEAVY_USERNAME);
+    }
+
+    @Benchmark
+    public Optional<User> findCredentialsByUsername() {
+        return userRepository.findCredentialsByUsername(BenchmarkDatabase.HEAVY_USERNAME);
+    }
+
+    @Benchmark
+    public Task create() {
+        Task task = new Task();
+        task.setTitle("Benchmark task");
+        task.setStatus(Status.TODO);
+        task.setExpirationDate(LocalDateTime.now());
+        taskRepository.create(task);
+        return task;
+    }
+
+    @Benchmark
+    public Task update() {
+        updatedTask.setStatus(updatedTask.getStatus() == Status.DONE ? Status.TODO : Status.DONE);
+        if (taskRepository.update(updatedTask) == 1) {
+            updatedTask.setVersion(updatedTask.getVersion() + 1);
+        }
+        return updatedTask;
+    }
+}
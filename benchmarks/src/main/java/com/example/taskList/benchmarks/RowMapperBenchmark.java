@@ -0,0 +1,90 @@
+package com.example.taskList.benchmarks;
+
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.user.User;
+import com.example.taskList.repository.mappers.TaskRowMaper;
+import com.example.taskList.repository.mappers.UserRowMapper;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    private static final List<String> ROLES = List.of("ROLE_USER", "ROLE_ADMIN");
+
+    @Param({"100", "5000"})
+    public int taskCount;
+
+    private SimpleResultSet taskRows;
+    private SimpleResultSet userRows;
+
+    @Setup
+    public void setUp() {
+        Timestamp expiration = Timestamp.valueOf(LocalDateTime.now());
+
+        taskRows = new SimpleResultSet();
+        taskRows.setAutoClose(false);
+        addTaskColumns(taskRows);
+        for (long i = 0; i < taskCount; i++) {
+            taskRows.addRow(i, "Task " + i, null, expiration, "TODO", 0L);
+        }
+
+        userRows = new SimpleResultSet();
+        userRows.setAutoClose(false);
+        userRows.addColumn("user_id", Types.BIGINT, 19, 0);
+        userRows.addColumn("user_name", Types.VARCHAR, 255, 0);
+        userRows.addColumn("user_username", Types.VARCHAR, 255, 0);
+        userRows.addColumn("user_password", Types.VARCHAR, 255, 0);
+        userRows.addColumn("user_role_role", Types.VARCHAR, 255, 0);
+        addTaskColumns(userRows);
+        for (String role : ROLES) {
+            for (long i = 0; i < taskCount; i++) {
+                userRows.addRow(1L, "Heavy", "heavy@example.com", "secret", role,
+                        i, "Task " + i, null, expiration, "TODO", 0L);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Task> taskRowMapperMapRows() throws SQLException {
+        taskRows.beforeFirst();
+        return TaskRowMaper.mapRows(taskRows);
+    }
+
+    @Benchmark
+    public User userRowMapperMapRow() throws SQLException {
+        userRows.beforeFirst();
+        return UserRowMapper.mapRow(userRows);
+    }
+
+    private static void addTaskColumns(SimpleResultSet resultSet) {
+        resultSet.addColumn("task_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("task_title", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("task_description", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("task_expiration_date", Types.TIMESTAMP, 0, 0);
+        resultSet.addColumn("task_status", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("task_version", Types.BIGINT, 19, 0);
+    }
+}
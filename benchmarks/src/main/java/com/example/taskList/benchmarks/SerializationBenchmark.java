@@ -0,0 +1,100 @@
+package com.example.taskList.benchmarks;
+
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.web.dto.task.TaskDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost of a task list page per negotiated format. Payload
+ * sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"50", "500"})
+    public int taskCount;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TaskDto> tasks;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .build();
+        writer = objectMapper.writerFor(new TypeReference<List<TaskDto>>() {
+        });
+        reader = objectMapper.readerFor(new TypeReference<List<TaskDto>>() {
+        });
+        tasks = tasks(taskCount);
+        payload = writer.writeValueAsBytes(tasks);
+        System.out.printf("%nPayload for %d tasks as %s: %d bytes%n", taskCount, format, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDto> deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    private static List<TaskDto> tasks(int count) {
+        LocalDateTime expiration = LocalDateTime.of(2030, 1, 1, 12, 0);
+        List<TaskDto> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskDto task = new TaskDto();
+            task.setId(1_000_000L + i);
+            task.setTitle("Task " + i);
+            task.setDescription(i % 2 == 0 ? null : "Description of task " + i);
+            task.setStatus(Status.values()[i % Status.values().length]);
+            task.setExpirationDate(expiration.plusHours(i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
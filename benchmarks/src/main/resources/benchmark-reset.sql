@@ -0,0 +1,4 @@
+drop table if exists users_roles;
+drop table if exists users_tasks;
+drop table if exists tasks;
+drop table if exists users;
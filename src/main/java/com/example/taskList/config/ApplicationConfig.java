@@ -1,8 +1,12 @@
 package com.example.taskList.config;
 
 
+import com.example.taskList.service.props.PasswordHashingProperties;
+import com.example.taskList.web.security.BoundedPasswordEncoder;
 import com.example.taskList.web.security.JwtTokenFilter;
 import com.example.taskList.web.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
@@ -16,6 +20,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.HttpSecurityBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -30,6 +35,7 @@ import javax.sound.sampled.Line;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor(onConstructor = @__(@Lazy))
 public class ApplicationConfig {
 
@@ -37,8 +43,15 @@ public class ApplicationConfig {
     private final ApplicationContext applicationContext;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(properties.getStrength()),
+                properties.getStrength(),
+                properties.getThreads(),
+                properties.getQueueCapacity());
+        Gauge.builder("auth.password.queue", encoder, BoundedPasswordEncoder::getQueueDepth)
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        return encoder;
     }
 
     @Bean
@@ -88,6 +101,7 @@ public class ApplicationConfig {
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**").permitAll()
                 .requestMatchers("/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
                 .and()
                 .anonymous().disable()
@@ -0,0 +1,16 @@
+package com.example.taskList.domain.auth;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class RefreshToken {
+
+    private UUID jti;
+    private UUID sessionId;
+    private Long userId;
+    private LocalDateTime expiresAt;
+
+}
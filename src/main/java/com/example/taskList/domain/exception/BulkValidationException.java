@@ -0,0 +1,16 @@
+package com.example.taskList.domain.exception;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class BulkValidationException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public BulkValidationException(String message, Map<String, String> errors) {
+        super(message);
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.taskList.domain.exception;
+
+public class StaleResourceException extends RuntimeException {
+
+    public StaleResourceException(String message) {
+        super(message);
+    }
+}
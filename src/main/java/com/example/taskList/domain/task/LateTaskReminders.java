@@ -0,0 +1,11 @@
+package com.example.taskList.domain.task;
+
+import java.util.List;
+
+/**
+ * Reminders for tasks written after the scanner already claimed the slice
+ * their expiration date falls into; published inside the writing transaction
+ * and scheduled once it commits.
+ */
+public record LateTaskReminders(List<TaskReminder> reminders) {
+}
@@ -12,5 +12,6 @@ public class Task {
     private String description;
     private Status status;
     private LocalDateTime expirationDate;
+    private Long version;
 
 }
@@ -0,0 +1,16 @@
+package com.example.taskList.domain.task;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TaskFilter {
+
+    private Long afterId;
+    private Status status;
+    private LocalDateTime expiresFrom;
+    private LocalDateTime expiresTo;
+    private int limit;
+
+}
@@ -0,0 +1,6 @@
+package com.example.taskList.domain.task;
+
+public enum TaskImportFormat {
+
+    CSV, NDJSON;
+}
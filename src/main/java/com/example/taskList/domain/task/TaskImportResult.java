@@ -0,0 +1,18 @@
+package com.example.taskList.domain.task;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class TaskImportResult {
+
+    private long read;
+    private long imported;
+    private long rejected;
+    private List<String> rejections = new ArrayList<>();
+    private long elapsedMillis;
+    private long rowsPerSecond;
+
+}
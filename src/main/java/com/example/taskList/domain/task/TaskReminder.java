@@ -0,0 +1,15 @@
+package com.example.taskList.domain.task;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TaskReminder {
+
+    private Long taskId;
+    private Long userId;
+    private String title;
+    private LocalDateTime expirationDate;
+
+}
@@ -0,0 +1,13 @@
+package com.example.taskList.domain.task;
+
+import lombok.Data;
+
+@Data
+public class TaskSearch {
+
+    private String query;
+    private Float afterRank;
+    private Long afterId;
+    private int limit;
+
+}
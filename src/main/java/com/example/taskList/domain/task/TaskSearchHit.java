@@ -0,0 +1,12 @@
+package com.example.taskList.domain.task;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class TaskSearchHit extends Task {
+
+    private float rank;
+
+}
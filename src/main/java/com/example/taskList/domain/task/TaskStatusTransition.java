@@ -0,0 +1,16 @@
+package com.example.taskList.domain.task;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskStatusTransition {
+
+    private Long userId;
+    private List<Long> ids;
+    private Status fromStatus;
+    private Status toStatus;
+    private boolean overdueOnly;
+
+}
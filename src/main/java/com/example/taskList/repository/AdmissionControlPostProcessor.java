@@ -0,0 +1,42 @@
+package com.example.taskList.repository;
+
+import com.example.taskList.service.props.AdmissionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AdmissionControlPostProcessor implements BeanPostProcessor, EnvironmentAware, Ordered {
+
+    // Hikari leaves maximumPoolSize unset (-1) until the pool starts, then defaults it to 10.
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    private AdmissionProperties properties;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.properties = Binder.get(environment)
+                .bind("repository.admission", AdmissionProperties.class)
+                .orElseGet(AdmissionProperties::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (properties.isEnabled() && bean instanceof HikariDataSource dataSource) {
+            int poolSize = dataSource.getMaximumPoolSize() < 1
+                    ? HIKARI_DEFAULT_POOL_SIZE
+                    : dataSource.getMaximumPoolSize();
+            return new AdmissionControlDataSource(dataSource, poolSize, properties.getAcquireTimeout());
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -16,4 +16,8 @@ public class DataSourceConfig {
     public Connection getConnection() {
         return DataSourceUtils.getConnection(dataSource);
     }
+
+    public void releaseConnection(Connection connection) {
+        DataSourceUtils.releaseConnection(connection, dataSource);
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.taskList.repository;
+
+import com.example.taskList.domain.auth.RefreshToken;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Mapper
+public interface RefreshTokenRepository {
+
+    void create(RefreshToken refreshToken);
+
+    int markUsed(@Param("jti") UUID jti, @Param("now") LocalDateTime now);
+
+    int revokeSession(@Param("sessionId") UUID sessionId, @Param("now") LocalDateTime now);
+
+    List<RefreshToken> findRevokedSessions(@Param("now") LocalDateTime now);
+
+    int deleteExpired(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+}
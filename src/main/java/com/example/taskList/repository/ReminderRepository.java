@@ -0,0 +1,34 @@
+package com.example.taskList.repository;
+
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.domain.task.TaskReminder;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ReminderRepository {
+
+    boolean tryLock(long key);
+
+    void lock(long key);
+
+    LocalDateTime findWatermark();
+
+    void updateWatermark(LocalDateTime scannedUntil);
+
+    List<TaskReminder> findExpiring(@Param("status") Status status,
+                                    @Param("after") LocalDateTime after,
+                                    @Param("afterId") Long afterId,
+                                    @Param("until") LocalDateTime until,
+                                    @Param("limit") int limit);
+
+    List<TaskReminder> findPendingByIds(@Param("ids") List<Long> ids,
+                                        @Param("after") LocalDateTime after,
+                                        @Param("until") LocalDateTime until);
+
+    boolean isDue(@Param("taskId") Long taskId, @Param("expirationDate") LocalDateTime expirationDate);
+
+}
@@ -0,0 +1,94 @@
+package com.example.taskList.repository;
+
+import com.example.taskList.service.props.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class ReplicaRoutingPostProcessor implements DestructionAwareBeanPostProcessor, EnvironmentAware, Ordered {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private Environment environment;
+    private ReplicaProperties properties;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+        this.properties = Binder.get(environment)
+                .bind("repository.replicas", ReplicaProperties.class)
+                .orElseGet(ReplicaProperties::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!properties.isEnabled()
+                || properties.getNodes().isEmpty()
+                || !DATA_SOURCE_BEAN.equals(beanName)
+                || !(bean instanceof DataSource primary)) {
+            return bean;
+        }
+        List<HikariDataSource> replicas = IntStream.range(0, properties.getNodes().size())
+                .mapToObj(i -> createReplica(i, properties.getNodes().get(i)))
+                .toList();
+        routingDataSource = new ReplicaRoutingDataSource(primary,
+                replicas,
+                properties.getSelection(),
+                properties.getHealthCheckInterval(),
+                properties.getHealthCheckTimeout());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void postProcessBeforeDestruction(Object bean, String beanName) {
+        try {
+            routingDataSource.close();
+        } catch (Exception e) {
+            log.warn("Failed to close data sources of bean {}", beanName, e);
+        }
+    }
+
+    @Override
+    public boolean requiresDestruction(Object bean) {
+        return routingDataSource != null
+                && bean instanceof LazyConnectionDataSourceProxy proxy
+                && proxy.getTargetDataSource() == routingDataSource;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private HikariDataSource createReplica(int index, ReplicaProperties.Node node) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(node.getUsername() != null
+                ? node.getUsername()
+                : environment.getProperty("spring.datasource.username"));
+        dataSource.setPassword(node.getPassword() != null
+                ? node.getPassword()
+                : environment.getProperty("spring.datasource.password"));
+        dataSource.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+        dataSource.setReadOnly(true);
+        dataSource.setInitializationFailTimeout(-1);
+        if (node.getMaximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        }
+        dataSource.setPoolName("replica-" + index);
+        return dataSource;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskList.repository;
+
+import com.example.taskList.domain.task.Task;
+
+public interface TaskCopyWriter extends AutoCloseable {
+
+    void write(long lineNumber, Long userId, Task task);
+
+    long finish();
+
+    @Override
+    void close();
+
+}
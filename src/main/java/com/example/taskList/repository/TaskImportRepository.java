@@ -0,0 +1,20 @@
+package com.example.taskList.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskImportRepository {
+
+    void createStaging();
+
+    TaskCopyWriter openCopy(int bufferSize);
+
+    List<Long> findUnknownUserLines(int limit);
+
+    long deleteUnknownUsers();
+
+    long merge();
+
+    List<Long> findPendingTaskIdsDueBefore(LocalDateTime until);
+
+}
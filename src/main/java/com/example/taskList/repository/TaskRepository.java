@@ -1,9 +1,15 @@
 package com.example.taskList.repository;
 
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskFilter;
+import com.example.taskList.domain.task.TaskSearch;
+import com.example.taskList.domain.task.TaskSearchHit;
+import com.example.taskList.domain.task.TaskStatusTransition;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,12 +20,32 @@ public interface TaskRepository {
 
     List<Task> findAllByUserId(Long userID);
 
+    List<Task> findPageByUserId(@Param("userId") Long userId, @Param("filter") TaskFilter filter);
+
+    List<TaskSearchHit> search(@Param("userId") Long userId, @Param("search") TaskSearch search);
+
+    Cursor<Task> streamAllByUserId(Long userId);
+
     void assignToUserById(@Param("taskId") Long taskId, @Param("userId") Long userId);
 
-    void update (Task task);
+    int update(Task task);
+
+    List<Long> updateStatus(TaskStatusTransition transition);
 
     void create (Task task);
 
+    void createAll(@Param("tasks") List<Task> tasks);
+
+    void assignAllToUserById(@Param("taskIds") List<Long> taskIds, @Param("userId") Long userId);
+
+    Long findOwnerId(Long taskId);
+
     void delete (Long Id);
 
+    Long findMaxId();
+
+    int purge(@Param("fromId") long fromId,
+              @Param("toId") long toId,
+              @Param("deletedBefore") LocalDateTime deletedBefore);
+
 }
@@ -5,6 +5,7 @@ import com.example.taskList.domain.user.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
@@ -14,13 +15,17 @@ public interface UserRepository {
 
     Optional<User> findByUsername(String username);
 
+    Optional<User> findCredentialsByUsername(String username);
+
     void update(User user);
 
-    void create(User user);
+    Long createWithRole(@Param("user") User user, @Param("role") Role role);
+
+    List<User> createAllWithRole(@Param("users") List<User> users, @Param("role") Role role);
 
-    void insertUserRole(@Param("userId") Long userId, @Param("role") Role role);
+    boolean isTaskOwner(@Param("userId") Long userId, @Param("taskId") Long taskId);
 
-    boolean isTaskOwner(@Param("userId") Long userId, @Param("role") Long taskId);
+    List<Long> findTaskIdsByUserId(Long userId);
 
     void delete(Long id);
 }
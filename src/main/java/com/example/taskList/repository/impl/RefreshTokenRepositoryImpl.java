@@ -0,0 +1,139 @@
+package com.example.taskList.repository.impl;
+
+import com.example.taskList.domain.auth.RefreshToken;
+import com.example.taskList.domain.exception.ResourceMappingException;
+import com.example.taskList.repository.RefreshTokenRepository;
+import com.example.taskList.repository.jdbc.JdbcExecutor;
+import com.example.taskList.repository.jdbc.Parameters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "repository", name = "backend", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final JdbcExecutor jdbcExecutor;
+
+    private final String CREATE = """
+            insert into refresh_tokens (jti, session_id, user_id, expires_at)
+            values (?, ?, ?, ?)""";
+
+    private final String MARK_USED = """
+            update refresh_tokens
+            set used_at = ?
+            where jti = ?
+                and used_at is null
+                and revoked_at is null
+                and expires_at > ?""";
+
+    private final String REVOKE_SESSION = """
+            update refresh_tokens
+            set revoked_at = ?
+            where session_id = ?
+                and revoked_at is null""";
+
+    private final String FIND_REVOKED_SESSIONS = """
+            select session_id,
+                user_id,
+                max(expires_at) as expires_at
+            from refresh_tokens
+            where revoked_at is not null
+                and expires_at > ?
+            group by session_id, user_id""";
+
+    private final String DELETE_EXPIRED = """
+            delete from refresh_tokens
+            where jti = any(array(
+                select jti
+                from refresh_tokens
+                where expires_at < ?
+                order by expires_at
+                limit ?
+                for update skip locked
+            ))""";
+
+    @Override
+    public void create(RefreshToken refreshToken) {
+        try {
+            jdbcExecutor.update(CREATE, statement -> {
+                statement.setObject(1, refreshToken.getJti());
+                statement.setObject(2, refreshToken.getSessionId());
+                statement.setLong(3, refreshToken.getUserId());
+                Parameters.setTimestamp(statement, 4, refreshToken.getExpiresAt());
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while creating refresh token.");
+        }
+    }
+
+    @Override
+    public int markUsed(UUID jti, LocalDateTime now) {
+        try {
+            return jdbcExecutor.update(MARK_USED, statement -> {
+                Parameters.setTimestamp(statement, 1, now);
+                statement.setObject(2, jti);
+                Parameters.setTimestamp(statement, 3, now);
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while using refresh token.");
+        }
+    }
+
+    @Override
+    public int revokeSession(UUID sessionId, LocalDateTime now) {
+        try {
+            return jdbcExecutor.update(REVOKE_SESSION, statement -> {
+                Parameters.setTimestamp(statement, 1, now);
+                statement.setObject(2, sessionId);
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while revoking refresh tokens.");
+        }
+    }
+
+    @Override
+    public List<RefreshToken> findRevokedSessions(LocalDateTime now) {
+        try {
+            return jdbcExecutor.query(FIND_REVOKED_SESSIONS,
+                    statement -> Parameters.setTimestamp(statement, 1, now),
+                    RefreshTokenRepositoryImpl::mapRows);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding revoked refresh tokens.");
+        }
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime before, int limit) {
+        try {
+            return jdbcExecutor.update(DELETE_EXPIRED, statement -> {
+                Parameters.setTimestamp(statement, 1, before);
+                statement.setInt(2, limit);
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while deleting expired refresh tokens.");
+        }
+    }
+
+    private static List<RefreshToken> mapRows(ResultSet rs) throws SQLException {
+        List<RefreshToken> tokens = new ArrayList<>();
+        while (rs.next()) {
+            RefreshToken token = new RefreshToken();
+            token.setSessionId(rs.getObject("session_id", UUID.class));
+            token.setUserId(rs.getLong("user_id"));
+            token.setExpiresAt(rs.getTimestamp("expires_at").toLocalDateTime());
+            tokens.add(token);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.taskList.repository.impl;
+
+import com.example.taskList.domain.exception.ResourceMappingException;
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.domain.task.TaskReminder;
+import com.example.taskList.repository.ReminderRepository;
+import com.example.taskList.repository.jdbc.JdbcExecutor;
+import com.example.taskList.repository.jdbc.Parameters;
+import com.example.taskList.repository.jdbc.StatementBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "repository", name = "backend", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class ReminderRepositoryImpl implements ReminderRepository {
+
+    private final JdbcExecutor jdbcExecutor;
+
+    private final String TRY_LOCK = """
+            select pg_try_advisory_xact_lock(?)""";
+
+    private final String LOCK = """
+            select true
+            from pg_advisory_xact_lock(?)""";
+
+    private final String FIND_WATERMARK = """
+            select scanned_until
+            from task_reminder_watermark
+            where id = 1""";
+
+    private final String UPDATE_WATERMARK = """
+            update task_reminder_watermark
+            set scanned_until = ?
+            where id = 1""";
+
+    private final String FIND_EXPIRING = """
+            select t.id as task_id,
+                ut.user_id as user_id,
+                t.title as task_title,
+                t.expiration_date as task_expiration_date
+            from tasks t
+                join users_tasks ut on ut.task_id = t.id
+            where t.status = ?
+                and t.deleted_at is null
+                and (t.expiration_date, t.id) > (?, ?)
+                and t.expiration_date <= ?
+            order by t.expiration_date, t.id
+            limit ?""";
+
+    private final String FIND_PENDING_BY_IDS = """
+            select t.id as task_id,
+                ut.user_id as user_id,
+                t.title as task_title,
+                t.expiration_date as task_expiration_date
+            from tasks t
+                join users_tasks ut on ut.task_id = t.id
+            where t.id = any(?)
+                and t.status <> 'DONE'
+                and t.deleted_at is null
+                and t.expiration_date > ?
+                and t.expiration_date <= ?""";
+
+    private final String IS_DUE = """
+            select exists (
+                select 1
+                from tasks t
+                where t.id = ?
+                    and t.status <> 'DONE'
+                    and t.deleted_at is null
+                    and t.expiration_date = ?
+                )""";
+
+    @Override
+    public boolean tryLock(long key) {
+        try {
+            return jdbcExecutor.query(TRY_LOCK,
+                    statement -> statement.setLong(1, key),
+                    rs -> rs.next() && rs.getBoolean(1));
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while acquiring reminder lock.");
+        }
+    }
+
+    @Override
+    public void lock(long key) {
+        try {
+            jdbcExecutor.query(LOCK,
+                    statement -> statement.setLong(1, key),
+                    ResultSet::next);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while acquiring reminder lock.");
+        }
+    }
+
+    @Override
+    public LocalDateTime findWatermark() {
+        try {
+            return jdbcExecutor.query(FIND_WATERMARK,
+                    StatementBinder.NONE,
+                    rs -> rs.next() ? rs.getTimestamp(1).toLocalDateTime() : null);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding reminder watermark.");
+        }
+    }
+
+    @Override
+    public void updateWatermark(LocalDateTime scannedUntil) {
+        try {
+            jdbcExecutor.update(UPDATE_WATERMARK,
+                    statement -> Parameters.setTimestamp(statement, 1, scannedUntil));
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while updating reminder watermark.");
+        }
+    }
+
+    @Override
+    public List<TaskReminder> findExpiring(Status status,
+                                           LocalDateTime after,
+                                           Long afterId,
+                                           LocalDateTime until,
+                                           int limit) {
+        try {
+            return jdbcExecutor.query(FIND_EXPIRING, statement -> {
+                Parameters.setEnum(statement, 1, status);
+                Parameters.setTimestamp(statement, 2, after);
+                statement.setLong(3, afterId);
+                Parameters.setTimestamp(statement, 4, until);
+                statement.setInt(5, limit);
+            }, ReminderRepositoryImpl::mapRows);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding expiring tasks.");
+        }
+    }
+
+    @Override
+    public List<TaskReminder> findPendingByIds(List<Long> ids, LocalDateTime after, LocalDateTime until) {
+        try {
+            return jdbcExecutor.query(FIND_PENDING_BY_IDS, statement -> {
+                statement.setArray(1, statement.getConnection()
+                        .createArrayOf("bigint", ids.toArray()));
+                Parameters.setTimestamp(statement, 2, after);
+                Parameters.setTimestamp(statement, 3, until);
+            }, ReminderRepositoryImpl::mapRows);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding pending tasks.");
+        }
+    }
+
+    @Override
+    public boolean isDue(Long taskId, LocalDateTime expirationDate) {
+        try {
+            return jdbcExecutor.query(IS_DUE, statement -> {
+                statement.setLong(1, taskId);
+                Parameters.setTimestamp(statement, 2, expirationDate);
+            }, rs -> rs.next() && rs.getBoolean(1));
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while checking task reminder.");
+        }
+    }
+
+    private static List<TaskReminder> mapRows(ResultSet rs) throws SQLException {
+        List<TaskReminder> reminders = new ArrayList<>();
+        while (rs.next()) {
+            TaskReminder reminder = new TaskReminder();
+            reminder.setTaskId(rs.getLong("task_id"));
+            reminder.setUserId(rs.getLong("user_id"));
+            reminder.setTitle(rs.getString("task_title"));
+            Timestamp timestamp = rs.getTimestamp("task_expiration_date");
+            reminder.setExpirationDate(timestamp.toLocalDateTime());
+            reminders.add(reminder);
+        }
+        return reminders;
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.taskList.repository.impl;
+
+import com.example.taskList.domain.exception.ResourceMappingException;
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.repository.DataSourceConfig;
+import com.example.taskList.repository.TaskCopyWriter;
+import com.example.taskList.repository.TaskImportRepository;
+import com.example.taskList.repository.jdbc.JdbcExecutor;
+import com.example.taskList.repository.jdbc.Parameters;
+import com.example.taskList.repository.jdbc.StatementBinder;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * COPY has no MyBatis counterpart, so both repository backends load imports
+ * through this class.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepositoryImpl implements TaskImportRepository {
+
+    private final DataSourceConfig dataSourceConfig;
+    private final JdbcExecutor jdbcExecutor;
+
+    private final String FIND_TASK_SEQUENCE = """
+            select pg_get_serial_sequence('tasks', 'id')""";
+
+    private final String CREATE_STAGING = """
+            create temporary table task_import_staging
+            (
+                line_number bigint not null,
+                user_id bigint not null,
+                task_id bigint not null default nextval('%s'::regclass),
+                title varchar(255) not null,
+                description varchar(255) null,
+                status varchar(255) not null,
+                expiration_date timestamp null
+            ) on commit drop""";
+
+    private final String COPY_STAGING = """
+            copy task_import_staging (line_number, user_id, title, description, status, expiration_date)
+            from stdin with (format csv)""";
+
+    private final String ANALYZE_STAGING = """
+            analyze task_import_staging""";
+
+    private final String FIND_UNKNOWN_USER_LINES = """
+            select s.line_number
+            from task_import_staging s
+            where not exists (
+                select 1
+                from users u
+                where u.id = s.user_id
+                )
+            order by s.line_number
+            limit ?""";
+
+    private final String DELETE_UNKNOWN_USERS = """
+            delete from task_import_staging s
+            where not exists (
+                select 1
+                from users u
+                where u.id = s.user_id
+                )""";
+
+    private final String MERGE_TASKS = """
+            insert into tasks (id, title, description, status, expiration_date)
+            select task_id, title, description, status, expiration_date
+            from task_import_staging""";
+
+    private final String MERGE_USERS_TASKS = """
+            insert into users_tasks (user_id, task_id)
+            select user_id, task_id
+            from task_import_staging""";
+
+    private final String FIND_PENDING_TASK_IDS_DUE_BEFORE = """
+            select task_id
+            from task_import_staging
+            where status <> 'DONE'
+                and expiration_date <= ?""";
+
+    @Override
+    public void createStaging() {
+        try {
+            String sequence = jdbcExecutor.query(FIND_TASK_SEQUENCE,
+                    StatementBinder.NONE,
+                    rs -> rs.next() ? rs.getString(1) : null);
+            if (sequence == null) {
+                throw new ResourceMappingException("Tasks id sequence not found.");
+            }
+            jdbcExecutor.update(CREATE_STAGING.formatted(sequence.replace("'", "''")),
+                    StatementBinder.NONE);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while creating task import staging table.");
+        }
+    }
+
+    @Override
+    public TaskCopyWriter openCopy(int bufferSize) {
+        Connection connection = dataSourceConfig.getConnection();
+        try {
+            CopyIn copyIn = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_STAGING);
+            return new PgTaskCopyWriter(copyIn, bufferSize, connection);
+        } catch (SQLException throwables) {
+            dataSourceConfig.releaseConnection(connection);
+            throw new ResourceMappingException("Exception while starting task import copy.");
+        }
+    }
+
+    @Override
+    public List<Long> findUnknownUserLines(int limit) {
+        try {
+            return jdbcExecutor.query(FIND_UNKNOWN_USER_LINES, statement -> statement.setInt(1, limit), rs -> {
+                List<Long> lines = new ArrayList<>();
+                while (rs.next()) {
+                    lines.add(rs.getLong(1));
+                }
+                return lines;
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding imported tasks of unknown users.");
+        }
+    }
+
+    @Override
+    public long deleteUnknownUsers() {
+        try {
+            return jdbcExecutor.update(DELETE_UNKNOWN_USERS, StatementBinder.NONE);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while rejecting imported tasks of unknown users.");
+        }
+    }
+
+    @Override
+    public List<Long> findPendingTaskIdsDueBefore(LocalDateTime until) {
+        try {
+            return jdbcExecutor.query(FIND_PENDING_TASK_IDS_DUE_BEFORE,
+                    statement -> Parameters.setTimestamp(statement, 1, until),
+                    rs -> {
+                        List<Long> ids = new ArrayList<>();
+                        while (rs.next()) {
+                            ids.add(rs.getLong(1));
+                        }
+                        return ids;
+                    });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding imported tasks due soon.");
+        }
+    }
+
+    @Override
+    public long merge() {
+        try {
+            jdbcExecutor.update(ANALYZE_STAGING, StatementBinder.NONE);
+            long merged = jdbcExecutor.update(MERGE_TASKS, StatementBinder.NONE);
+            jdbcExecutor.update(MERGE_USERS_TASKS, StatementBinder.NONE);
+            return merged;
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while merging imported tasks.");
+        }
+    }
+
+    private final class PgTaskCopyWriter implements TaskCopyWriter {
+
+        private final CopyIn copyIn;
+        private final int bufferSize;
+        private final Connection connection;
+        private final StringBuilder buffer;
+        private boolean finished;
+
+        private PgTaskCopyWriter(CopyIn copyIn, int bufferSize, Connection connection) {
+            this.copyIn = copyIn;
+            this.bufferSize = bufferSize;
+            this.connection = connection;
+            this.buffer = new StringBuilder(bufferSize + 1024);
+        }
+
+        @Override
+        public void write(long lineNumber, Long userId, Task task) {
+            buffer.append(lineNumber).append(',')
+                    .append(userId).append(',');
+            appendQuoted(task.getTitle());
+            buffer.append(',');
+            appendQuoted(task.getDescription());
+            buffer.append(',')
+                    .append(task.getStatus().name())
+                    .append(',');
+            if (task.getExpirationDate() != null) {
+                buffer.append(task.getExpirationDate());
+            }
+            buffer.append('\n');
+            if (buffer.length() >= bufferSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public long finish() {
+            flush();
+            try {
+                finished = true;
+                return copyIn.endCopy();
+            } catch (SQLException throwables) {
+                throw new ResourceMappingException("Exception while finishing task import copy.");
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!finished && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            } catch (SQLException ignored) {
+            } finally {
+                dataSourceConfig.releaseConnection(connection);
+            }
+        }
+
+        private void appendQuoted(String value) {
+            if (value == null) {
+                return;
+            }
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            buffer.setLength(0);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException throwables) {
+                throw new ResourceMappingException("Exception while copying imported tasks.");
+            }
+        }
+    }
+}
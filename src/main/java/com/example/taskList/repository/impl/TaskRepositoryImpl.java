@@ -2,41 +2,101 @@ package com.example.taskList.repository.impl;
 
 import com.example.taskList.domain.exception.ResourceMappingException;
 import com.example.taskList.domain.task.Task;
-import com.example.taskList.repository.DataSourceConfig;
+import com.example.taskList.domain.task.TaskFilter;
+import com.example.taskList.domain.task.TaskSearch;
+import com.example.taskList.domain.task.TaskSearchHit;
+import com.example.taskList.domain.task.TaskStatusTransition;
 import com.example.taskList.repository.TaskRepository;
+import com.example.taskList.repository.jdbc.JdbcExecutor;
+import com.example.taskList.repository.jdbc.Parameters;
+import com.example.taskList.repository.jdbc.StatementBinder;
 import com.example.taskList.repository.mappers.TaskRowMaper;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
 import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-//@Repository
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "repository", name = "backend", havingValue = "jdbc")
 @RequiredArgsConstructor
 public class TaskRepositoryImpl implements TaskRepository {
 
-    private final DataSourceConfig dataSourceConfig;
+    private final JdbcExecutor jdbcExecutor;
 
     private final String FIND_BY_ID = """
             select t.id as task_id,
                 t.title as task_title,
                 t.description as task_description,
                 t.expiration_date as task_expiration_date,
-                t.status as task_status
+                t.status as task_status,
+                t.version as task_version
             from tasks t
-            where id = ?""";
+            where id = ?
+                and t.deleted_at is null""";
 
     private final String FIND_ALL_BY_USER_ID = """
             select t.id as task_id,
                 t.title as task_title,
                 t.description as task_description,
                 t.expiration_date as task_expiration_date,
-                t.status as task_status
+                t.status as task_status,
+                t.version as task_version
             from tasks t
                 join users_tasks ut on t.id = ut.task_id
-            where ut.user_id = ?""";
+            where ut.user_id = ?
+                and t.deleted_at is null""";
+
+    private final String FIND_PAGE_BY_USER_ID = """
+            select t.id as task_id,
+                t.title as task_title,
+                t.description as task_description,
+                t.expiration_date as task_expiration_date,
+                t.status as task_status,
+                t.version as task_version
+            from users_tasks ut
+                join tasks t on t.id = ut.task_id
+            where ut.user_id = ?
+                and t.deleted_at is null
+            """;
 
+    private final String SEARCH = """
+            select t.id as task_id,
+                t.title as task_title,
+                t.description as task_description,
+                t.expiration_date as task_expiration_date,
+                t.status as task_status,
+                t.version as task_version,
+                ts_rank(t.search_vector, q.query) as task_rank
+            from users_tasks ut
+                join tasks t on t.id = ut.task_id
+                cross join websearch_to_tsquery('simple', ?) as q(query)
+            where ut.user_id = ?
+                and t.search_vector @@ q.query
+                and t.deleted_at is null
+            """;
+
+    private final String STREAM_ALL_BY_USER_ID = """
+            select t.id as task_id,
+                t.title as task_title,
+                t.description as task_description,
+                t.expiration_date as task_expiration_date,
+                t.status as task_status,
+                t.version as task_version
+            from users_tasks ut
+                join tasks t on t.id = ut.task_id
+            where ut.user_id = ?
+                and t.deleted_at is null
+            order by ut.task_id""";
+
+    private final int STREAM_FETCH_SIZE = 1000;
 
     private final String ASSIGN = """
             insert into users_tasks (task_id, user_id)
@@ -47,8 +107,21 @@ public class TaskRepositoryImpl implements TaskRepository {
             set title = ?,
                 description = ?,
                 expiration_date = ?,
-                status = ?
+                status = ?,
+                version = version + 1
             where id = ?
+                and deleted_at is null
+            """;
+
+    private final String UPDATE_STATUS = """
+            update tasks t
+            set status = ?,
+                version = t.version + 1
+            from users_tasks ut
+            where ut.task_id = t.id
+                and ut.user_id = ?
+                and t.status <> ?
+                and t.deleted_at is null
             """;
 
     private final String CREATE = """
@@ -56,21 +129,40 @@ public class TaskRepositoryImpl implements TaskRepository {
             values (?, ?, ?, ?)
             """;
 
+    private final String FIND_OWNER_ID = """
+            select user_id
+            from users_tasks
+            where task_id = ?""";
+
     private final String DELETE = """
-            DELETE FROM tasks
-            where id = ?""";
+            update tasks
+            set deleted_at = localtimestamp
+            where id = ?
+                and deleted_at is null""";
+
+    private final String FIND_MAX_ID = """
+            select max(id)
+            from tasks""";
+
+    private final String PURGE = """
+            delete from tasks t
+            where t.id > ?
+                and t.id <= ?
+                and (t.deleted_at < ?
+                    or not exists (
+                        select 1
+                        from users_tasks ut
+                        where ut.task_id = t.id
+                            and ut.task_id > ?
+                            and ut.task_id <= ?
+                    ))""";
 
     @Override
     public Optional<Task> findById(Long id) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_BY_ID);
-            statement.setLong(1, id);
-
-            try (ResultSet rs = statement.executeQuery()){
-                return Optional.ofNullable(TaskRowMaper.mapRow(rs));
-            }
-
+            return Optional.ofNullable(jdbcExecutor.query(FIND_BY_ID,
+                    statement -> statement.setLong(1, id),
+                    TaskRowMaper::mapRow));
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while finding user by id.");
         }
@@ -79,100 +171,243 @@ public class TaskRepositoryImpl implements TaskRepository {
     @Override
     public List<Task> findAllByUserId(Long userID) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_ALL_BY_USER_ID);
-            statement.setLong(1, userID);
+            return jdbcExecutor.query(FIND_ALL_BY_USER_ID,
+                    statement -> statement.setLong(1, userID),
+                    TaskRowMaper::mapRows);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding all by user id.");
+        }
+    }
 
-            try (ResultSet rs = statement.executeQuery()){
-                return TaskRowMaper.mapRows(rs);
-            }
+    @Override
+    public List<Task> findPageByUserId(Long userId, TaskFilter filter) {
+        StringBuilder sql = new StringBuilder(FIND_PAGE_BY_USER_ID);
+        if (filter.getAfterId() != null) {
+            sql.append(" and ut.task_id > ?");
+        }
+        if (filter.getStatus() != null) {
+            sql.append(" and t.status = ?");
+        }
+        if (filter.getExpiresFrom() != null) {
+            sql.append(" and t.expiration_date >= ?");
+        }
+        if (filter.getExpiresTo() != null) {
+            sql.append(" and t.expiration_date < ?");
+        }
+        sql.append(" order by ut.task_id limit ?");
+        try {
+            return jdbcExecutor.query(sql.toString(), statement -> {
+                int index = 1;
+                statement.setLong(index++, userId);
+                if (filter.getAfterId() != null) {
+                    statement.setLong(index++, filter.getAfterId());
+                }
+                if (filter.getStatus() != null) {
+                    Parameters.setEnum(statement, index++, filter.getStatus());
+                }
+                if (filter.getExpiresFrom() != null) {
+                    Parameters.setTimestamp(statement, index++, filter.getExpiresFrom());
+                }
+                if (filter.getExpiresTo() != null) {
+                    Parameters.setTimestamp(statement, index++, filter.getExpiresTo());
+                }
+                statement.setInt(index, filter.getLimit());
+            }, TaskRowMaper::mapRows);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding page by user id.");
+        }
+    }
 
+    @Override
+    public List<TaskSearchHit> search(Long userId, TaskSearch search) {
+        StringBuilder sql = new StringBuilder(SEARCH);
+        if (search.getAfterId() != null) {
+            sql.append(" and (ts_rank(t.search_vector, q.query), t.id) < (cast(? as real), ?)");
+        }
+        sql.append(" order by task_rank desc, t.id desc limit ?");
+        try {
+            return jdbcExecutor.query(sql.toString(), statement -> {
+                int index = 1;
+                statement.setString(index++, search.getQuery());
+                statement.setLong(index++, userId);
+                if (search.getAfterId() != null) {
+                    statement.setFloat(index++, search.getAfterRank());
+                    statement.setLong(index++, search.getAfterId());
+                }
+                statement.setInt(index, search.getLimit());
+            }, TaskRowMaper::mapSearchHits);
         } catch (SQLException throwables) {
-            throw new ResourceMappingException("Error while finding all by user id.");
+            throw new ResourceMappingException("Error while searching tasks.");
+        }
+    }
+
+    @Override
+    public Cursor<Task> streamAllByUserId(Long userId) {
+        try {
+            return jdbcExecutor.cursor(STREAM_ALL_BY_USER_ID, STREAM_FETCH_SIZE,
+                    statement -> statement.setLong(1, userId),
+                    TaskRowMaper::mapCurrentRow);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while streaming tasks by user id.");
         }
     }
 
     @Override
     public void assignToUserById(Long taskId, Long userId) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(ASSIGN);
-            statement.setLong(1, taskId);
-            statement.setLong(2, userId);
-            statement.executeUpdate();
+            jdbcExecutor.update(ASSIGN, statement -> {
+                statement.setLong(1, taskId);
+                statement.setLong(2, userId);
+            });
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while assign to user.");
         }
     }
 
     @Override
-    public void update(Task task) {
+    public int update(Task task) {
+        StringBuilder sql = new StringBuilder(UPDATE);
+        if (task.getVersion() != null) {
+            sql.append(" and version = ?");
+        }
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(UPDATE);
-            statement.setString(1, task.getTitle());
-
-            if (task.getDescription() == null) {
-                statement.setNull(2, Types.VARCHAR);
-            } else {
-                statement.setString(2, task.getDescription());
-            }
-
-            if (task.getExpirationDate() == null) {
-                statement.setNull(3, Types.TIMESTAMP);
-            } else {
-                statement.setTimestamp(3, Timestamp.valueOf(task.getExpirationDate()));
-            }
-            statement.setString(4, task.getStatus().name());
-            statement.setLong(5, task.getId());
-
-            statement.executeUpdate();
-
+            return jdbcExecutor.update(sql.toString(), statement -> {
+                statement.setString(1, task.getTitle());
+                Parameters.setString(statement, 2, task.getDescription());
+                Parameters.setTimestamp(statement, 3, task.getExpirationDate());
+                Parameters.setEnum(statement, 4, task.getStatus());
+                statement.setLong(5, task.getId());
+                if (task.getVersion() != null) {
+                    statement.setLong(6, task.getVersion());
+                }
+            });
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while updating task.");
         }
+    }
 
+    @Override
+    public List<Long> updateStatus(TaskStatusTransition transition) {
+        StringBuilder sql = new StringBuilder(UPDATE_STATUS);
+        if (transition.getIds() != null) {
+            sql.append(" and t.id = any(?)");
+        }
+        if (transition.getFromStatus() != null) {
+            sql.append(" and t.status = ?");
+        }
+        if (transition.isOverdueOnly()) {
+            sql.append(" and t.expiration_date < now()");
+        }
+        sql.append(" returning t.id");
+        try {
+            return jdbcExecutor.query(sql.toString(), statement -> {
+                int index = 1;
+                Parameters.setEnum(statement, index++, transition.getToStatus());
+                statement.setLong(index++, transition.getUserId());
+                Parameters.setEnum(statement, index++, transition.getToStatus());
+                if (transition.getIds() != null) {
+                    statement.setArray(index++, statement.getConnection()
+                            .createArrayOf("bigint", transition.getIds().toArray()));
+                }
+                if (transition.getFromStatus() != null) {
+                    Parameters.setEnum(statement, index, transition.getFromStatus());
+                }
+            }, rs -> {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                return ids;
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while updating task status.");
+        }
     }
 
     @Override
     public void create(Task task) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(CREATE, PreparedStatement.RETURN_GENERATED_KEYS);
-            statement.setString(1, task.getTitle());
-
-            if (task.getDescription() == null) {
-                statement.setNull(2, Types.VARCHAR);
-            } else {
-                statement.setString(2, task.getDescription());
-            }
-
-            if (task.getExpirationDate() == null) {
-                statement.setNull(3, Types.TIMESTAMP);
-            } else {
-                statement.setTimestamp(3, Timestamp.valueOf(task.getExpirationDate()));
-            }
-            statement.setString(4, task.getStatus().name());
-            statement.executeUpdate();
-
-            try (ResultSet rs = statement.getGeneratedKeys()) {
-                rs.next();
-                task.setId(rs.getLong(1));
-            }
+            task.setId(jdbcExecutor.insert(CREATE, statement -> bindCreate(statement, task)));
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while creating task.");
         }
     }
 
+    @Override
+    public void createAll(List<Task> tasks) {
+        try {
+            jdbcExecutor.batchInsert(CREATE, tasks, this::bindCreate, Task::setId);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while creating tasks.");
+        }
+    }
+
+    @Override
+    public void assignAllToUserById(List<Long> taskIds, Long userId) {
+        try {
+            jdbcExecutor.batch(ASSIGN, taskIds, (statement, taskId) -> {
+                statement.setLong(1, taskId);
+                statement.setLong(2, userId);
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while assign tasks to user.");
+        }
+    }
+
+    @Override
+    public Long findOwnerId(Long taskId) {
+        try {
+            return jdbcExecutor.query(FIND_OWNER_ID,
+                    statement -> statement.setLong(1, taskId),
+                    rs -> rs.next() ? rs.getLong(1) : null);
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding task owner.");
+        }
+    }
+
     @Override
     public void delete(Long id) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(DELETE);
-            statement.setLong(1, id);
-            statement.executeUpdate();
+            jdbcExecutor.update(DELETE, statement -> statement.setLong(1, id));
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Error while deleting task.");
         }
     }
+
+    @Override
+    public Long findMaxId() {
+        try {
+            return jdbcExecutor.query(FIND_MAX_ID,
+                    StatementBinder.NONE,
+                    rs -> {
+                        rs.next();
+                        long id = rs.getLong(1);
+                        return rs.wasNull() ? null : id;
+                    });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while finding max task id.");
+        }
+    }
+
+    @Override
+    public int purge(long fromId, long toId, LocalDateTime deletedBefore) {
+        try {
+            return jdbcExecutor.update(PURGE, statement -> {
+                statement.setLong(1, fromId);
+                statement.setLong(2, toId);
+                Parameters.setTimestamp(statement, 3, deletedBefore);
+                statement.setLong(4, fromId);
+                statement.setLong(5, toId);
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while purging tasks.");
+        }
+    }
+
+    private void bindCreate(PreparedStatement statement, Task task) throws SQLException {
+        statement.setString(1, task.getTitle());
+        Parameters.setString(statement, 2, task.getDescription());
+        Parameters.setTimestamp(statement, 3, task.getExpirationDate());
+        Parameters.setEnum(statement, 4, task.getStatus());
+    }
 }
@@ -3,20 +3,27 @@ package com.example.taskList.repository.impl;
 import com.example.taskList.domain.exception.ResourceMappingException;
 import com.example.taskList.domain.user.Role;
 import com.example.taskList.domain.user.User;
-import com.example.taskList.repository.DataSourceConfig;
 import com.example.taskList.repository.UserRepository;
+import com.example.taskList.repository.jdbc.JdbcExecutor;
 import com.example.taskList.repository.mappers.UserRowMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
-//@Repository
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "repository", name = "backend", havingValue = "jdbc")
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
 
-    private final DataSourceConfig dataSourceConfig;
+    private final JdbcExecutor jdbcExecutor;
 
     private final String FIND_BY_ID = """
             select
@@ -29,12 +36,13 @@ public class UserRepositoryImpl implements UserRepository {
                 t.title as task_title,
                 t.description as task_description,
                 t.expiration_date as task_expiration_date,
-                t.status as task_status
+                t.status as task_status,
+                t.version as task_version
                         
             from users u
                 left join users_roles ur on u.id = ur.user_id
                 left join users_tasks ut on u.id = ut.user_id
-                left join tasks t on ut.task_id = t.id
+                left join tasks t on ut.task_id = t.id and t.deleted_at is null
             where
                 u."id" = ?
             """;
@@ -50,15 +58,30 @@ public class UserRepositoryImpl implements UserRepository {
                 t.title as task_title,
                 t.description as task_description,
                 t.expiration_date as task_expiration_date,
-                t.status as task_status
+                t.status as task_status,
+                t.version as task_version
             from users u
                 left join users_roles ur on u.id = ur.user_id
                 left join users_tasks ut on u.id = ut.user_id
-                left join tasks t on ut.task_id = t.id
+                left join tasks t on ut.task_id = t.id and t.deleted_at is null
             where
                 u.username = ?
             """;
 
+    private final String FIND_CREDENTIALS_BY_USERNAME = """
+            select
+                u.id as user_id,
+                u.username as user_username,
+                u.name as user_name,
+                u.password as user_password,
+                array_agg(ur.role) as user_roles
+            from users u
+                left join users_roles ur on u.id = ur.user_id
+            where
+                u.username = ?
+            group by u.id, u.username, u.name, u.password
+            """;
+
     private final String UPDATE = """
             UPDATE users
             SET name = ?,
@@ -66,13 +89,36 @@ public class UserRepositoryImpl implements UserRepository {
                 password = ?
             WHERE id = ?""";
 
-    private final String CREATE = """
-            insert into users (name, username, password)
-            values (?, ?, ?)""";
+    private final String CREATE_WITH_ROLE = """
+            with inserted as (
+                insert into users (name, username, password)
+                values (?, ?, ?)
+                on conflict (username) do nothing
+                returning id
+            ), roles as (
+                insert into users_roles (user_id, role)
+                select id, ?
+                from inserted
+            )
+            select id
+            from inserted""";
 
-    private final String INSERT_USER_ROLE = """
-            insert into users_roles (user_id, role)
-            values (?, ?)""";
+    private final String CREATE_ALL_WITH_ROLE = """
+            with input (name, username, password) as (
+                values %s
+            ), inserted as (
+                insert into users (name, username, password)
+                select name, username, password
+                from input
+                on conflict (username) do nothing
+                returning id, username
+            ), roles as (
+                insert into users_roles (user_id, role)
+                select id, ?
+                from inserted
+            )
+            select id, username
+            from inserted""";
 
     private final String IS_TASK_OWNER = """
             select exists (
@@ -82,6 +128,11 @@ public class UserRepositoryImpl implements UserRepository {
                     and task_id = ?
                 )""";
 
+    private final String FIND_TASK_IDS_BY_USER_ID = """
+            select task_id
+            from users_tasks
+            where user_id = ?""";
+
     private final String DELETE = """
             delete from users
             where id = ?""";
@@ -89,14 +140,9 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public Optional<User> findById(Long id) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_BY_ID,
-                    ResultSet.TYPE_SCROLL_INSENSITIVE,
-                    ResultSet.CONCUR_READ_ONLY);
-            statement.setLong(1, id);
-            try (ResultSet rs = statement.executeQuery()) {
-                return Optional.ofNullable(UserRowMapper.mapRow(rs));
-            }
+            return Optional.ofNullable(jdbcExecutor.query(FIND_BY_ID,
+                    statement -> statement.setLong(1, id),
+                    UserRowMapper::mapRow));
         } catch (SQLException e) {
             throw new ResourceMappingException("Exception while finding user by id.");
         }
@@ -105,91 +151,112 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public Optional<User> findByUsername(String username) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(FIND_BY_USERNAME,
-                    ResultSet.TYPE_SCROLL_INSENSITIVE,
-                    ResultSet.CONCUR_READ_ONLY);
-            statement.setString(1, username);
-            try (ResultSet rs = statement.executeQuery()) {
-                User user = UserRowMapper.mapRow(rs);
-                return Optional.ofNullable(user);
-            }
+            return Optional.ofNullable(jdbcExecutor.query(FIND_BY_USERNAME,
+                    statement -> statement.setString(1, username),
+                    UserRowMapper::mapRow));
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while finding user by username.");
         }
     }
 
+    @Override
+    public Optional<User> findCredentialsByUsername(String username) {
+        try {
+            return Optional.ofNullable(jdbcExecutor.query(FIND_CREDENTIALS_BY_USERNAME,
+                    statement -> statement.setString(1, username),
+                    UserRowMapper::mapCredentialsRow));
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding user credentials by username.");
+        }
+    }
+
     @Override
     public void update(User user) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(UPDATE);
-            statement.setString(1, user.getName());
-            statement.setString(2, user.getUsername());
-            statement.setString(3, user.getPassword());
-            statement.setLong(4, user.getId());
-            statement.executeUpdate();
+            jdbcExecutor.update(UPDATE, statement -> {
+                statement.setString(1, user.getName());
+                statement.setString(2, user.getUsername());
+                statement.setString(3, user.getPassword());
+                statement.setLong(4, user.getId());
+            });
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while updating user.");
         }
     }
 
     @Override
-    public void create(User user) {
+    public Long createWithRole(User user, Role role) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(CREATE, PreparedStatement.RETURN_GENERATED_KEYS);
-            statement.setString(1, user.getName());
-            statement.setString(2, user.getUsername());
-            statement.setString(3, user.getPassword());
-            statement.executeUpdate();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                rs.next();
-                user.setId(rs.getLong(1));
-            }
+            return jdbcExecutor.query(CREATE_WITH_ROLE, statement -> {
+                statement.setString(1, user.getName());
+                statement.setString(2, user.getUsername());
+                statement.setString(3, user.getPassword());
+                statement.setString(4, role.name());
+            }, rs -> rs.next() ? rs.getLong(1) : null);
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while creating user.");
         }
     }
 
     @Override
-    public void insertUserRole(Long userId, Role role) {
+    public List<User> createAllWithRole(List<User> users, Role role) {
+        String sql = CREATE_ALL_WITH_ROLE.formatted(String.join(", ",
+                Collections.nCopies(users.size(), "(?, ?, ?)")));
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(INSERT_USER_ROLE);
-            statement.setLong(1, userId);
-            statement.setString(2, role.name());
-            statement.executeUpdate();
+            return jdbcExecutor.query(sql, statement -> {
+                int index = 1;
+                for (User user : users) {
+                    statement.setString(index++, user.getName());
+                    statement.setString(index++, user.getUsername());
+                    statement.setString(index++, user.getPassword());
+                }
+                statement.setString(index, role.name());
+            }, rs -> {
+                List<User> created = new ArrayList<>();
+                while (rs.next()) {
+                    User user = new User();
+                    user.setId(rs.getLong(1));
+                    user.setUsername(rs.getString(2));
+                    created.add(user);
+                }
+                return created;
+            });
         } catch (SQLException throwables) {
-            throw new ResourceMappingException("Exception while inserting user role.");
+            throw new ResourceMappingException("Exception while creating users.");
         }
     }
 
     @Override
     public boolean isTaskOwner(Long userId, Long taskId) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(IS_TASK_OWNER);
-            statement.setLong(1, userId);
-            statement.setLong(2, taskId);
-            try (ResultSet rs = statement.executeQuery()) {
-                rs.next();
-                return rs.getBoolean(1);
-            }
-
+            return jdbcExecutor.query(IS_TASK_OWNER, statement -> {
+                statement.setLong(1, userId);
+                statement.setLong(2, taskId);
+            }, rs -> rs.next() && rs.getBoolean(1));
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while checking if user is task owner.");
         }
     }
 
+    @Override
+    public List<Long> findTaskIdsByUserId(Long userId) {
+        try {
+            return jdbcExecutor.query(FIND_TASK_IDS_BY_USER_ID, statement -> statement.setLong(1, userId), rs -> {
+                List<Long> ids = new ArrayList<>();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                return ids;
+            });
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Exception while finding task ids by user id.");
+        }
+    }
+
     @Override
     public void delete(Long id) {
         try {
-            Connection connection = dataSourceConfig.getConnection();
-            PreparedStatement statement = connection.prepareStatement(DELETE);
-            statement.setLong(1, id);
-            statement.executeUpdate();
+            jdbcExecutor.update(DELETE, statement -> statement.setLong(1, id));
         } catch (SQLException throwables) {
             throw new ResourceMappingException("Exception while deleting user.");
         }
@@ -0,0 +1,11 @@
+package com.example.taskList.repository.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface ItemBinder<T> {
+
+    void bind(PreparedStatement statement, T item) throws SQLException;
+
+}
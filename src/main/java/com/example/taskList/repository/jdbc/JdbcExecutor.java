@@ -0,0 +1,218 @@
+package com.example.taskList.repository.jdbc;
+
+import com.example.taskList.repository.DataSourceConfig;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcExecutor {
+
+    private final DataSourceConfig dataSourceConfig;
+    private final List<QueryListener> queryListeners;
+
+    public <T> T query(String sql, StatementBinder binder, ResultSetReader<T> reader) throws SQLException {
+        return execute(sql, false, statement -> {
+            binder.bind(statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                return reader.read(rs);
+            }
+        });
+    }
+
+    public int update(String sql, StatementBinder binder) throws SQLException {
+        return execute(sql, false, statement -> {
+            binder.bind(statement);
+            return statement.executeUpdate();
+        });
+    }
+
+    public long insert(String sql, StatementBinder binder) throws SQLException {
+        return execute(sql, true, statement -> {
+            binder.bind(statement);
+            statement.executeUpdate();
+            try (ResultSet rs = statement.getGeneratedKeys()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        });
+    }
+
+    public <T> int[] batch(String sql, List<T> items, ItemBinder<T> binder) throws SQLException {
+        return execute(sql, false, statement -> {
+            for (T item : items) {
+                binder.bind(statement, item);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        });
+    }
+
+    public <T> void batchInsert(String sql,
+                                List<T> items,
+                                ItemBinder<T> binder,
+                                BiConsumer<T, Long> keyConsumer) throws SQLException {
+        execute(sql, true, statement -> {
+            for (T item : items) {
+                binder.bind(statement, item);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            try (ResultSet rs = statement.getGeneratedKeys()) {
+                for (T item : items) {
+                    rs.next();
+                    keyConsumer.accept(item, rs.getLong(1));
+                }
+            }
+            return null;
+        });
+    }
+
+    public <T> Cursor<T> cursor(String sql,
+                                int fetchSize,
+                                StatementBinder binder,
+                                Function<ResultSet, T> rowMapper) throws SQLException {
+        Connection connection = dataSourceConfig.getConnection();
+        long start = System.nanoTime();
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            binder.bind(statement);
+            ResultSet rs = statement.executeQuery();
+            afterQuery(sql, start, null);
+            return new ResultSetCursor<>(statement, rs, rowMapper,
+                    () -> dataSourceConfig.releaseConnection(connection));
+        } catch (SQLException | RuntimeException e) {
+            afterQuery(sql, start, e);
+            closeQuietly(statement);
+            dataSourceConfig.releaseConnection(connection);
+            throw e;
+        }
+    }
+
+    private <T> T execute(String sql, boolean generatedKeys, StatementCallback<T> callback) throws SQLException {
+        Connection connection = dataSourceConfig.getConnection();
+        StatementCache cache = currentStatementCache(connection);
+        long start = System.nanoTime();
+        PreparedStatement statement = null;
+        try {
+            statement = cache != null
+                    ? cache.prepare(sql, generatedKeys)
+                    : prepare(connection, sql, generatedKeys);
+            T result = callback.doInStatement(statement);
+            afterQuery(sql, start, null);
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            afterQuery(sql, start, e);
+            throw e;
+        } finally {
+            if (cache == null) {
+                closeQuietly(statement);
+            }
+            dataSourceConfig.releaseConnection(connection);
+        }
+    }
+
+    private StatementCache currentStatementCache(Connection connection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        StatementCache cache = (StatementCache) TransactionSynchronizationManager.getResource(this);
+        if (cache == null) {
+            cache = new StatementCache(connection);
+            TransactionSynchronizationManager.bindResource(this, cache);
+            TransactionSynchronizationManager.registerSynchronization(new StatementCacheSynchronization(cache));
+        }
+        return cache.connection == connection ? cache : null;
+    }
+
+    private void afterQuery(String sql, long start, Throwable error) {
+        long elapsed = System.nanoTime() - start;
+        for (QueryListener listener : queryListeners) {
+            listener.afterQuery(sql, elapsed, error);
+        }
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, boolean generatedKeys) throws SQLException {
+        return generatedKeys
+                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql);
+    }
+
+    private static void closeQuietly(Statement statement) {
+        if (statement == null) {
+            return;
+        }
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementCallback<T> {
+
+        T doInStatement(PreparedStatement statement) throws SQLException;
+
+    }
+
+    private static final class StatementCache {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private final Map<String, PreparedStatement> keyStatements = new HashMap<>();
+
+        private StatementCache(Connection connection) {
+            this.connection = connection;
+        }
+
+        private PreparedStatement prepare(String sql, boolean generatedKeys) throws SQLException {
+            Map<String, PreparedStatement> cache = generatedKeys ? keyStatements : statements;
+            PreparedStatement statement = cache.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = JdbcExecutor.prepare(connection, sql, generatedKeys);
+                cache.put(sql, statement);
+            } else {
+                statement.clearParameters();
+                statement.clearBatch();
+            }
+            return statement;
+        }
+
+        private void close() {
+            statements.values().forEach(JdbcExecutor::closeQuietly);
+            keyStatements.values().forEach(JdbcExecutor::closeQuietly);
+            statements.clear();
+            keyStatements.clear();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class StatementCacheSynchronization implements TransactionSynchronization {
+
+        private final StatementCache cache;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JdbcExecutor.this);
+            cache.close();
+        }
+    }
+}
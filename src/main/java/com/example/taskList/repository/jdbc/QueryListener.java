@@ -0,0 +1,7 @@
+package com.example.taskList.repository.jdbc;
+
+public interface QueryListener {
+
+    void afterQuery(String sql, long elapsedNanos, Throwable error);
+
+}
@@ -0,0 +1,115 @@
+package com.example.taskList.repository.jdbc;
+
+import com.example.taskList.domain.exception.ResourceMappingException;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public class ResultSetCursor<T> implements Cursor<T> {
+
+    private final Statement statement;
+    private final ResultSet resultSet;
+    private final Function<ResultSet, T> rowMapper;
+    private final Runnable onClose;
+
+    private boolean iteratorRetrieved;
+    private boolean consumed;
+    private boolean closed;
+    private int currentIndex = -1;
+
+    public ResultSetCursor(Statement statement,
+                           ResultSet resultSet,
+                           Function<ResultSet, T> rowMapper,
+                           Runnable onClose) {
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+        this.onClose = onClose;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    @Override
+    public boolean isConsumed() {
+        return consumed;
+    }
+
+    @Override
+    public int getCurrentIndex() {
+        return currentIndex;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iteratorRetrieved) {
+            throw new IllegalStateException("Cannot open more than one iterator on a Cursor");
+        }
+        if (closed) {
+            throw new IllegalStateException("A Cursor is already closed.");
+        }
+        iteratorRetrieved = true;
+        return new Iterator<>() {
+
+            private T next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = fetchNext();
+                }
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T current = next;
+                next = null;
+                currentIndex++;
+                return current;
+            }
+        };
+    }
+
+    private T fetchNext() {
+        if (closed || consumed) {
+            return null;
+        }
+        try {
+            if (resultSet.next()) {
+                return rowMapper.apply(resultSet);
+            }
+            consumed = true;
+            close();
+            return null;
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while reading cursor.");
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resultSet.close();
+            statement.close();
+        } catch (SQLException throwables) {
+            throw new ResourceMappingException("Error while closing cursor.");
+        } finally {
+            onClose.run();
+        }
+    }
+}
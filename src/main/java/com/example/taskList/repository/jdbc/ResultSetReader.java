@@ -0,0 +1,11 @@
+package com.example.taskList.repository.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface ResultSetReader<T> {
+
+    T read(ResultSet resultSet) throws SQLException;
+
+}
@@ -0,0 +1,25 @@
+package com.example.taskList.repository.jdbc;
+
+import com.example.taskList.service.props.RepositoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlowQueryLogger implements QueryListener {
+
+    private final RepositoryProperties repositoryProperties;
+
+    @Override
+    public void afterQuery(String sql, long elapsedNanos, Throwable error) {
+        if (error != null) {
+            log.warn("Query failed after {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql, error);
+        } else if (elapsedNanos > repositoryProperties.getSlowQueryThreshold().toNanos()) {
+            log.warn("Slow query took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.taskList.repository.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface StatementBinder {
+
+    StatementBinder NONE = statement -> {
+    };
+
+    void bind(PreparedStatement statement) throws SQLException;
+
+}
@@ -0,0 +1,56 @@
+package com.example.taskList.repository.mappers;
+
+import com.example.taskList.domain.user.Role;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class RoleSetTypeHandler extends BaseTypeHandler<Set<Role>> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, Set<Role> roles, JdbcType jdbcType) throws SQLException {
+        String[] names = roles.stream()
+                .map(Enum::name)
+                .toArray(String[]::new);
+        ps.setArray(i, ps.getConnection().createArrayOf("varchar", names));
+    }
+
+    @Override
+    public Set<Role> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toRoles(rs.getArray(columnName));
+    }
+
+    @Override
+    public Set<Role> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toRoles(rs.getArray(columnIndex));
+    }
+
+    @Override
+    public Set<Role> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toRoles(cs.getArray(columnIndex));
+    }
+
+    public static Set<Role> toRoles(Array array) throws SQLException {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        if (array == null) {
+            return roles;
+        }
+        try {
+            for (Object role : (Object[]) array.getArray()) {
+                if (role != null) {
+                    roles.add(Role.valueOf(role.toString()));
+                }
+            }
+        } finally {
+            array.free();
+        }
+        return roles;
+    }
+}
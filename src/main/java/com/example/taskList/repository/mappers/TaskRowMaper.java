@@ -2,6 +2,7 @@ package com.example.taskList.repository.mappers;
 
 import com.example.taskList.domain.task.Status;
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskSearchHit;
 import lombok.SneakyThrows;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
@@ -13,20 +14,48 @@ public class TaskRowMaper {
     @SneakyThrows
     public static Task mapRow(ResultSet resultSet) {
         if(resultSet.next()) {
-            Task task = new Task();
-            task.setId(resultSet.getLong("task_id"));
-            task.setTitle(resultSet.getString("task_title"));
-            task.setDescription(resultSet.getString("task_description"));
-            task.setStatus(Status.valueOf(resultSet.getString("task_status")));
+            return mapCurrentRow(resultSet);
+        }
+        return null;
+    }
+
+    @SneakyThrows
+    public static Task mapCurrentRow(ResultSet resultSet) {
+        Task task = new Task();
+        task.setId(resultSet.getLong("task_id"));
+        task.setTitle(resultSet.getString("task_title"));
+        task.setDescription(resultSet.getString("task_description"));
+        task.setStatus(Status.valueOf(resultSet.getString("task_status")));
+        task.setVersion(resultSet.getLong("task_version"));
+
+        Timestamp timestamp = resultSet.getTimestamp("task_expiration_date");
+
+        if (timestamp != null) {
+            task.setExpirationDate(timestamp.toLocalDateTime());
+        }
+        return task;
+    }
+
+    @SneakyThrows
+    public static List<TaskSearchHit> mapSearchHits(ResultSet resultSet) {
+        List<TaskSearchHit> hits = new ArrayList<>();
+        while (resultSet.next()) {
+            TaskSearchHit hit = new TaskSearchHit();
+            hit.setId(resultSet.getLong("task_id"));
+            hit.setTitle(resultSet.getString("task_title"));
+            hit.setDescription(resultSet.getString("task_description"));
+            hit.setStatus(Status.valueOf(resultSet.getString("task_status")));
+            hit.setVersion(resultSet.getLong("task_version"));
 
             Timestamp timestamp = resultSet.getTimestamp("task_expiration_date");
 
             if (timestamp != null) {
-                task.setExpirationDate(timestamp.toLocalDateTime());
+                hit.setExpirationDate(timestamp.toLocalDateTime());
             }
-            return task;
+            hit.setRank(resultSet.getFloat("task_rank"));
+            hits.add(hit);
         }
-        return null;
+        return hits;
     }
 
     @SneakyThrows
@@ -39,6 +68,7 @@ public class TaskRowMaper {
                 task.setTitle(resultSet.getString("task_title"));
                 task.setDescription(resultSet.getString("task_description"));
                 task.setStatus(Status.valueOf(resultSet.getString("task_status")));
+                task.setVersion(resultSet.getLong("task_version"));
 
                 Timestamp timestamp = resultSet.getTimestamp("task_expiration_date");
 
@@ -6,29 +6,52 @@ import com.example.taskList.domain.user.User;
 import lombok.SneakyThrows;
 
 import java.sql.ResultSet;
-import java.util.HashSet;
-import java.util.List;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 public class UserRowMapper {
 
     @SneakyThrows
     public static User mapRow (ResultSet resultSet) {
-        Set <Role> roles = new HashSet<>();
+        User user = null;
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        Map<Long, Task> tasks = new LinkedHashMap<>();
         while (resultSet.next()) {
-            roles.add(Role.valueOf(resultSet.getString("user_role_role")));
+            if (user == null) {
+                user = new User();
+                user.setId(resultSet.getLong("user_id"));
+                user.setName(resultSet.getString("user_name"));
+                user.setUsername(resultSet.getString("user_username"));
+                user.setPassword(resultSet.getString("user_password"));
+            }
+            String role = resultSet.getString("user_role_role");
+            if (role != null) {
+                roles.add(Role.valueOf(role));
+            }
+            long taskId = resultSet.getLong("task_id");
+            if (!resultSet.wasNull() && !tasks.containsKey(taskId)) {
+                tasks.put(taskId, TaskRowMaper.mapCurrentRow(resultSet));
+            }
         }
-        resultSet.beforeFirst();
-        List<Task> tasks = TaskRowMaper.mapRows(resultSet);
-        resultSet.beforeFirst();
+        if (user != null) {
+            user.setRoles(roles);
+            user.setTasks(new ArrayList<>(tasks.values()));
+        }
+        return user;
+    }
+
+    @SneakyThrows
+    public static User mapCredentialsRow(ResultSet resultSet) {
         if (resultSet.next()) {
             User user = new User();
             user.setId(resultSet.getLong("user_id"));
             user.setName(resultSet.getString("user_name"));
             user.setUsername(resultSet.getString("user_username"));
             user.setPassword(resultSet.getString("user_password"));
-            user.setRoles(roles);
-            user.setTasks(tasks);
+            user.setRoles(RoleSetTypeHandler.toRoles(resultSet.getArray("user_roles")));
             return user;
         }
         return null;
@@ -0,0 +1,101 @@
+package com.example.taskList.repository.mybatis;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets: every power of two is
+ * split into 8 sub-buckets, so reported percentiles are within 12.5%.
+ */
+public class StatementMetrics {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long elapsedNanos, long rowCount) {
+        buckets.incrementAndGet(bucket(elapsedNanos));
+        calls.increment();
+        rows.add(rowCount);
+        if (elapsedNanos > max.get()) {
+            max.accumulateAndGet(elapsedNanos, Math::max);
+        }
+    }
+
+    public void recordError(long elapsedNanos) {
+        record(elapsedNanos, 0);
+        errors.increment();
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(
+                calls.sum(),
+                errors.sum(),
+                rows.sum(),
+                toMillis(percentile(counts, total, 0.50)),
+                toMillis(percentile(counts, total, 0.95)),
+                toMillis(percentile(counts, total, 0.99)),
+                toMillis(max.get())
+        );
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Snapshot(long calls,
+                           long errors,
+                           long rows,
+                           double p50Millis,
+                           double p95Millis,
+                           double p99Millis,
+                           double maxMillis) {
+    }
+}
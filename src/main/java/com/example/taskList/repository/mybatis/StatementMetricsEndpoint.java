@@ -0,0 +1,21 @@
+package com.example.taskList.repository.mybatis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "statements")
+@RequiredArgsConstructor
+public class StatementMetricsEndpoint {
+
+    private final StatementMetricsInterceptor interceptor;
+
+    @ReadOperation
+    public Map<String, StatementMetrics.Snapshot> statements() {
+        return interceptor.snapshot();
+    }
+}
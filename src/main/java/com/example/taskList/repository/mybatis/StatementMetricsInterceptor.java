@@ -0,0 +1,121 @@
+package com.example.taskList.repository.mybatis;
+
+import com.example.taskList.repository.TaskRepository;
+import com.example.taskList.repository.UserRepository;
+import com.example.taskList.service.props.RepositoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    private static final String[] NAMESPACES = {
+            TaskRepository.class.getName() + ".",
+            UserRepository.class.getName() + "."
+    };
+
+    private final RepositoryProperties repositoryProperties;
+    private final ConcurrentMap<String, StatementMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        if (!isMonitored(statement.getId())) {
+            return invocation.proceed();
+        }
+        StatementMetrics statementMetrics = metricsFor(statement.getId());
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            statementMetrics.recordError(System.nanoTime() - start);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        statementMetrics.record(elapsed, rowCount(result));
+        if (elapsed > repositoryProperties.getSlowQueryThreshold().toNanos()) {
+            logSlowStatement(statement, invocation.getArgs()[1], elapsed);
+        }
+        return result;
+    }
+
+    public Map<String, StatementMetrics.Snapshot> snapshot() {
+        Map<String, StatementMetrics.Snapshot> snapshot = new TreeMap<>();
+        metrics.forEach((id, statementMetrics) -> snapshot.put(id, statementMetrics.snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private StatementMetrics metricsFor(String id) {
+        StatementMetrics statementMetrics = metrics.get(id);
+        return statementMetrics != null
+                ? statementMetrics
+                : metrics.computeIfAbsent(id, key -> new StatementMetrics());
+    }
+
+    private static boolean isMonitored(String id) {
+        for (String namespace : NAMESPACES) {
+            if (id.startsWith(namespace)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count) {
+            return count;
+        }
+        return 0;
+    }
+
+    private static void logSlowStatement(MappedStatement statement, Object parameter, long elapsedNanos) {
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        String parameters = boundSql.getParameterMappings().stream()
+                .map(ParameterMapping::getProperty)
+                .map(property -> property + "=***")
+                .collect(Collectors.joining(", ", "[", "]"));
+        log.warn("Slow statement {} took {} ms: {} {}",
+                statement.getId(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                boundSql.getSql().replaceAll("\\s+", " "),
+                parameters);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskList.service;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+public interface BulkPasswordEncoder extends PasswordEncoder {
+
+    List<String> encodeAll(List<? extends CharSequence> rawPasswords);
+
+}
@@ -0,0 +1,18 @@
+package com.example.taskList.service;
+
+import com.example.taskList.domain.auth.RefreshToken;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RefreshTokenService {
+
+    void create(RefreshToken refreshToken);
+
+    boolean rotate(UUID jti, RefreshToken next);
+
+    void revokeSession(UUID sessionId);
+
+    List<RefreshToken> getRevokedSessions();
+
+}
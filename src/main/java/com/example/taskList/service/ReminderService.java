@@ -0,0 +1,20 @@
+package com.example.taskList.service;
+
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskReminder;
+
+import java.util.List;
+
+public interface ReminderService {
+
+    List<TaskReminder> claimNextSlice();
+
+    boolean isWithinClaimWindow(Task task);
+
+    void claimLate(List<Task> tasks);
+
+    void claimLateByIds(List<Long> taskIds);
+
+    boolean isDue(TaskReminder reminder);
+
+}
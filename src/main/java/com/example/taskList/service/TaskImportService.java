@@ -0,0 +1,12 @@
+package com.example.taskList.service;
+
+import com.example.taskList.domain.task.TaskImportFormat;
+import com.example.taskList.domain.task.TaskImportResult;
+
+import java.io.InputStream;
+
+public interface TaskImportService {
+
+    TaskImportResult importTasks(InputStream inputStream, TaskImportFormat format);
+
+}
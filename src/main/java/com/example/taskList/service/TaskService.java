@@ -1,8 +1,13 @@
 package com.example.taskList.service;
 
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskFilter;
+import com.example.taskList.domain.task.TaskSearch;
+import com.example.taskList.domain.task.TaskSearchHit;
+import com.example.taskList.domain.task.TaskStatusTransition;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
 
@@ -10,10 +15,20 @@ public interface TaskService {
 
     List<Task> getAllByUserId(Long id);
 
+    List<Task> getPageByUserId(Long id, TaskFilter filter);
+
+    List<TaskSearchHit> search(Long id, TaskSearch search);
+
+    void exportAllByUserId(Long id, Consumer<Task> consumer);
+
     Task update(Task task);
 
+    List<Long> updateStatus(TaskStatusTransition transition);
+
     Task create(Task task,Long userId);
 
+    List<Task> createAll(List<Task> tasks, Long userId);
+
     void delete (Long id);
 
 }
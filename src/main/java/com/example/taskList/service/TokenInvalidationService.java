@@ -0,0 +1,11 @@
+package com.example.taskList.service;
+
+import java.time.Instant;
+
+public interface TokenInvalidationService {
+
+    void invalidateUserTokens(Long userId);
+
+    boolean isValid(Long userId, Instant issuedAt);
+
+}
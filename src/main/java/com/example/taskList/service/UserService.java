@@ -2,16 +2,24 @@ package com.example.taskList.service;
 
 import com.example.taskList.domain.user.User;
 
+import java.util.List;
+
 public interface UserService {
 
     User getById(Long id);
 
     User getByUsername(String username);
 
+    User getCredentialsByUsername(String username);
+
     User update(User user);
 
     User create(User user);
 
+    List<User> createAll(List<User> users);
+
+    User updatePasswordHash(String username, String encodedPassword);
+
     boolean isTaskOwner(Long userId, Long taskId);
 
     void delete(Long id);
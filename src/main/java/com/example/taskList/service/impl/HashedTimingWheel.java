@@ -0,0 +1,131 @@
+package com.example.taskList.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Single-threaded hashed timing wheel. Items are handed over through a
+ * lock-free queue and placed into buckets by the worker thread on the next
+ * tick, so {@link #schedule} never blocks. Resolution is one tick.
+ */
+@Slf4j
+final class HashedTimingWheel<T> implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final Entry<T>[] buckets;
+    private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> handler;
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(Duration tickDuration, int ticksPerWheel, Consumer<T> handler, String threadName) {
+        int size = Integer.highestOneBit(Math.max(ticksPerWheel, 2) - 1) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.buckets = (Entry<T>[]) new Entry[size];
+        this.handler = handler;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    void schedule(T item, Duration delay) {
+        long deadline = System.nanoTime() - startNanos + Math.max(delay.toNanos(), 0);
+        pending.add(new Entry<>(item, deadline));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                return;
+            }
+            transferPending();
+            expire(tick & mask);
+            tick++;
+        }
+    }
+
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        long sleep = deadline - (System.nanoTime() - startNanos);
+        if (sleep <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleep);
+            return true;
+        } catch (InterruptedException e) {
+            return running;
+        }
+    }
+
+    private void transferPending() {
+        Entry<T> entry;
+        while ((entry = pending.poll()) != null) {
+            long expiresAt = entry.deadline / tickNanos;
+            entry.rounds = (expiresAt - tick) / buckets.length;
+            int index = (int) (Math.max(expiresAt, tick) & mask);
+            entry.next = buckets[index];
+            buckets[index] = entry;
+        }
+    }
+
+    private void expire(long index) {
+        int bucket = (int) index;
+        Entry<T> previous = null;
+        Entry<T> entry = buckets[bucket];
+        while (entry != null) {
+            Entry<T> next = entry.next;
+            if (entry.rounds <= 0) {
+                if (previous == null) {
+                    buckets[bucket] = next;
+                } else {
+                    previous.next = next;
+                }
+                fire(entry.item);
+            } else {
+                entry.rounds--;
+                previous = entry;
+            }
+            entry = next;
+        }
+    }
+
+    private void fire(T item) {
+        try {
+            handler.accept(item);
+        } catch (RuntimeException e) {
+            log.error("Timer handler failed for {}", item, e);
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private final long deadline;
+        private long rounds;
+        private Entry<T> next;
+
+        private Entry(T item, long deadline) {
+            this.item = item;
+            this.deadline = deadline;
+        }
+    }
+}
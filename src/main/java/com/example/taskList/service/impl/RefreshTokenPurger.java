@@ -0,0 +1,64 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.repository.RefreshTokenRepository;
+import com.example.taskList.service.props.JwtProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes expired refresh tokens in chunks until a chunk comes back short,
+ * pausing between chunks like {@link TaskPurger}. Rows locked by another
+ * instance's pass are skipped rather than waited on.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurger implements SchedulingConfigurer {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties jwtProperties;
+
+    private volatile boolean stopped;
+
+    @PreDestroy
+    public void destroy() {
+        stopped = true;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::purge, jwtProperties.getRefreshPurgeInterval());
+    }
+
+    public void purge() {
+        try {
+            LocalDateTime before = LocalDateTime.now();
+            int chunkSize = jwtProperties.getRefreshPurgeChunkSize();
+            long pauseNanos = jwtProperties.getRefreshPurgePause().toNanos();
+            long purged = 0;
+            int deleted = chunkSize;
+            while (deleted == chunkSize && !stopped) {
+                long start = System.nanoTime();
+                deleted = refreshTokenRepository.deleteExpired(before, chunkSize);
+                purged += deleted;
+                if (deleted == chunkSize) {
+                    TimeUnit.NANOSECONDS.sleep(Math.max(pauseNanos, System.nanoTime() - start));
+                }
+            }
+            if (purged > 0) {
+                log.info("Purged {} expired refresh tokens", purged);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Refresh token purge failed", e);
+        }
+    }
+}
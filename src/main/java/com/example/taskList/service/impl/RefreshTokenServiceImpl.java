@@ -0,0 +1,47 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.domain.auth.RefreshToken;
+import com.example.taskList.repository.RefreshTokenRepository;
+import com.example.taskList.service.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void create(RefreshToken refreshToken) {
+        refreshTokenRepository.create(refreshToken);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(UUID jti, RefreshToken next) {
+        if (refreshTokenRepository.markUsed(jti, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        refreshTokenRepository.create(next);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void revokeSession(UUID sessionId) {
+        refreshTokenRepository.revokeSession(sessionId, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RefreshToken> getRevokedSessions() {
+        return refreshTokenRepository.findRevokedSessions(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.domain.task.LateTaskReminders;
+import com.example.taskList.domain.task.TaskReminder;
+import com.example.taskList.service.ReminderService;
+import com.example.taskList.service.props.ReminderProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tasks.reminders", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReminderScanner implements SchedulingConfigurer {
+
+    private final ReminderService reminderService;
+    private final ReminderProperties reminderProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private HashedTimingWheel<TaskReminder> wheel;
+
+    @PostConstruct
+    public void init() {
+        wheel = new HashedTimingWheel<>(reminderProperties.getTick(),
+                reminderProperties.getTicksPerWheel(),
+                this::fire,
+                "task-reminders");
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        wheel.close();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::scan, reminderProperties.getScanInterval());
+    }
+
+    public void scan() {
+        List<TaskReminder> reminders;
+        try {
+            reminders = reminderService.claimNextSlice();
+        } catch (RuntimeException e) {
+            log.warn("Reminder scan failed", e);
+            return;
+        }
+        schedule(reminders);
+    }
+
+    @TransactionalEventListener
+    public void onLateReminders(LateTaskReminders event) {
+        schedule(event.reminders());
+    }
+
+    private void schedule(List<TaskReminder> reminders) {
+        LocalDateTime now = LocalDateTime.now();
+        for (TaskReminder reminder : reminders) {
+            wheel.schedule(reminder, Duration.between(now, reminder.getExpirationDate()));
+        }
+        if (!reminders.isEmpty()) {
+            log.debug("Scheduled {} task reminders", reminders.size());
+        }
+    }
+
+    /**
+     * The task may have been completed, deleted or moved to another date
+     * since it was claimed; only a reminder that still matches is published.
+     */
+    private void fire(TaskReminder reminder) {
+        if (reminderService.isDue(reminder)) {
+            eventPublisher.publishEvent(reminder);
+        }
+    }
+}
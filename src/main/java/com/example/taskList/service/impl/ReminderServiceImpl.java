@@ -0,0 +1,123 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.domain.task.LateTaskReminders;
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskReminder;
+import com.example.taskList.repository.ReminderRepository;
+import com.example.taskList.service.ReminderService;
+import com.example.taskList.service.props.ReminderProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ReminderServiceImpl implements ReminderService {
+
+    private static final Set<Status> PENDING = EnumSet.complementOf(EnumSet.of(Status.DONE));
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderProperties reminderProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public List<TaskReminder> claimNextSlice() {
+        if (!reminderRepository.tryLock(reminderProperties.getLockKey())) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(reminderProperties.getHorizon());
+        LocalDateTime from = reminderRepository.findWatermark();
+        LocalDateTime earliest = now.minus(reminderProperties.getMaxCatchUp());
+        if (from == null || from.isBefore(earliest)) {
+            from = earliest;
+        }
+        if (!until.isAfter(from)) {
+            return List.of();
+        }
+        List<TaskReminder> reminders = new ArrayList<>();
+        for (Status status : PENDING) {
+            scan(status, from, until, reminders);
+        }
+        reminderRepository.updateWatermark(until);
+        return reminders;
+    }
+
+    @Override
+    public boolean isWithinClaimWindow(Task task) {
+        if (!reminderProperties.isEnabled()
+                || task.getStatus() == Status.DONE
+                || task.getExpirationDate() == null) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return task.getExpirationDate().isAfter(now.minus(reminderProperties.getMaxCatchUp()))
+                && !task.getExpirationDate().isAfter(now.plus(reminderProperties.getHorizon()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void claimLate(List<Task> tasks) {
+        claimLateByIds(tasks.stream()
+                .filter(this::isWithinClaimWindow)
+                .map(Task::getId)
+                .toList());
+    }
+
+    /**
+     * Runs inside the transaction that wrote the tasks. Taking the scanner's
+     * advisory lock until commit orders this transaction against every scan:
+     * a scan that committed first could not see these tasks, so whatever it
+     * claimed up to the watermark is scheduled here; a later scan sees the
+     * committed tasks and starts from the watermark read here.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void claimLateByIds(List<Long> taskIds) {
+        if (!reminderProperties.isEnabled() || taskIds.isEmpty()) {
+            return;
+        }
+        reminderRepository.lock(reminderProperties.getLockKey());
+        LocalDateTime watermark = reminderRepository.findWatermark();
+        LocalDateTime earliest = LocalDateTime.now().minus(reminderProperties.getMaxCatchUp());
+        if (watermark == null || !watermark.isAfter(earliest)) {
+            return;
+        }
+        List<TaskReminder> late = reminderRepository.findPendingByIds(taskIds, earliest, watermark);
+        if (!late.isEmpty()) {
+            eventPublisher.publishEvent(new LateTaskReminders(late));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isDue(TaskReminder reminder) {
+        return reminderRepository.isDue(reminder.getTaskId(), reminder.getExpirationDate());
+    }
+
+    private void scan(Status status, LocalDateTime from, LocalDateTime until, List<TaskReminder> reminders) {
+        int batchSize = reminderProperties.getBatchSize();
+        LocalDateTime after = from;
+        long afterId = Long.MAX_VALUE;
+        List<TaskReminder> page;
+        do {
+            page = reminderRepository.findExpiring(status, after, afterId, until, batchSize);
+            if (!page.isEmpty()) {
+                TaskReminder last = page.get(page.size() - 1);
+                after = last.getExpirationDate();
+                afterId = last.getTaskId();
+                reminders.addAll(page);
+            }
+        } while (page.size() == batchSize);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskList.service.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+final class TaskIdSet {
+
+    static final TaskIdSet EMPTY = new TaskIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private TaskIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    static TaskIdSet of(List<Long> ids) {
+        long[] values = new long[ids.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ids.get(i);
+        }
+        return new TaskIdSet(sortedUnique(values, values.length));
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    TaskIdSet with(long[] added) {
+        long[] values = Arrays.copyOf(ids, ids.length + added.length);
+        System.arraycopy(added, 0, values, ids.length, added.length);
+        return new TaskIdSet(sortedUnique(values, values.length));
+    }
+
+    TaskIdSet without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        long[] values = new long[ids.length - 1];
+        System.arraycopy(ids, 0, values, 0, index);
+        System.arraycopy(ids, index + 1, values, index, ids.length - index - 1);
+        return new TaskIdSet(values);
+    }
+
+    private static long[] sortedUnique(long[] values, int length) {
+        Arrays.sort(values, 0, length);
+        int size = 0;
+        for (int i = 0; i < length; i++) {
+            if (size == 0 || values[size - 1] != values[i]) {
+                values[size++] = values[i];
+            }
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.domain.exception.InvalidImportException;
+import com.example.taskList.domain.task.TaskImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads one record at a time from a CSV or NDJSON upload, so memory use does
+ * not depend on the size of the file.
+ */
+abstract class TaskImportReader {
+
+    private final Reader reader;
+    private final char[] chars = new char[8192];
+    private int position;
+    private int limit;
+    final int maxRecordLength;
+    long line = 1;
+
+    private TaskImportReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    static TaskImportReader of(TaskImportFormat format,
+                               Reader reader,
+                               ObjectMapper objectMapper,
+                               int maxRecordLength) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(reader, maxRecordLength);
+            case NDJSON -> new Ndjson(reader, objectMapper, maxRecordLength);
+        };
+    }
+
+    abstract Row next() throws IOException;
+
+    String tooLong() {
+        return "Record is longer than " + maxRecordLength + " characters.";
+    }
+
+    int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return chars[position++];
+    }
+
+    int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return chars[position];
+    }
+
+    /**
+     * Discards input up to and including the next newline, so an oversized
+     * record costs no memory and the next record starts on a clean line.
+     */
+    void skipLine(int c) throws IOException {
+        while (c != '\n' && c != -1) {
+            c = read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        limit = reader.read(chars, 0, chars.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    record Row(long lineNumber,
+               String userId,
+               String title,
+               String description,
+               String status,
+               String expirationDate,
+               String error) {
+
+        static Row rejected(long lineNumber, String error) {
+            return new Row(lineNumber, null, null, null, null, null, error);
+        }
+    }
+
+    private static final class Csv extends TaskImportReader {
+
+        private static final String USER_ID = "user_id";
+        private static final String TITLE = "title";
+        private static final String DESCRIPTION = "description";
+        private static final String STATUS = "status";
+        private static final String EXPIRATION_DATE = "expiration_date";
+
+        private final List<String> fields = new ArrayList<>();
+        private final StringBuilder field = new StringBuilder();
+        private final int userId;
+        private final int title;
+        private final int description;
+        private final int status;
+        private final int expirationDate;
+        private boolean unterminated;
+        private boolean oversized;
+
+        private Csv(Reader reader, int maxRecordLength) throws IOException {
+            super(reader, maxRecordLength);
+            if (!readRecord()) {
+                throw new InvalidImportException("File is empty.");
+            }
+            if (oversized) {
+                throw new InvalidImportException("Header: " + tooLong());
+            }
+            List<String> header = fields.stream()
+                    .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            this.userId = header.indexOf(USER_ID);
+            this.title = header.indexOf(TITLE);
+            this.description = header.indexOf(DESCRIPTION);
+            this.status = header.indexOf(STATUS);
+            this.expirationDate = header.indexOf(EXPIRATION_DATE);
+            if (userId < 0 || title < 0) {
+                throw new InvalidImportException("Columns " + USER_ID + " and " + TITLE + " are required.");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            long lineNumber;
+            do {
+                lineNumber = line;
+                if (!readRecord()) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isEmpty() && !unterminated && !oversized);
+            if (oversized) {
+                return Row.rejected(lineNumber, tooLong());
+            }
+            if (unterminated) {
+                return Row.rejected(lineNumber, "Unterminated quoted field.");
+            }
+            return new Row(lineNumber,
+                    field(userId),
+                    field(title),
+                    field(description),
+                    field(status),
+                    field(expirationDate),
+                    null);
+        }
+
+        private String field(int index) {
+            if (index < 0 || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        private boolean readRecord() throws IOException {
+            fields.clear();
+            field.setLength(0);
+            unterminated = false;
+            oversized = false;
+            boolean quoted = false;
+            boolean any = false;
+            int length = 0;
+            int c;
+            while ((c = read()) != -1) {
+                any = true;
+                if (++length > maxRecordLength) {
+                    oversized = true;
+                    skipLine(c);
+                    return true;
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == '\n') {
+                    line++;
+                    fields.add(field.toString());
+                    return true;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                return false;
+            }
+            unterminated = quoted;
+            fields.add(field.toString());
+            return true;
+        }
+    }
+
+    private static final class Ndjson extends TaskImportReader {
+
+        private final ObjectMapper objectMapper;
+        private final StringBuilder text = new StringBuilder();
+        private boolean oversized;
+
+        private Ndjson(Reader reader, ObjectMapper objectMapper, int maxRecordLength) {
+            super(reader, maxRecordLength);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            long lineNumber;
+            do {
+                lineNumber = line;
+                if (!readLine()) {
+                    return null;
+                }
+            } while (!oversized && text.toString().isBlank());
+            if (oversized) {
+                return Row.rejected(lineNumber, tooLong());
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text.toString());
+            } catch (JsonProcessingException e) {
+                return Row.rejected(lineNumber, "Malformed JSON.");
+            }
+            if (!node.isObject()) {
+                return Row.rejected(lineNumber, "Line is not a JSON object.");
+            }
+            return new Row(lineNumber,
+                    text(node, "userId"),
+                    text(node, "title"),
+                    text(node, "description"),
+                    text(node, "status"),
+                    text(node, "expirationDate"),
+                    null);
+        }
+
+        private boolean readLine() throws IOException {
+            text.setLength(0);
+            oversized = false;
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+            while (c != '\n' && c != -1) {
+                if (text.length() == maxRecordLength) {
+                    oversized = true;
+                    skipLine(c);
+                    return true;
+                }
+                text.append((char) c);
+                c = read();
+            }
+            if (c == '\n') {
+                line++;
+            }
+            return true;
+        }
+
+        private static String text(JsonNode node, String name) {
+            JsonNode value = node.get(name);
+            if (value == null || value.isNull() || value.isContainerNode()) {
+                return null;
+            }
+            String text = value.asText();
+            return text.isEmpty() ? null : text;
+        }
+    }
+}
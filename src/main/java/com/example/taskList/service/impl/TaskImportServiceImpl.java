@@ -0,0 +1,146 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.config.CacheConfig;
+import com.example.taskList.domain.task.Status;
+import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskImportFormat;
+import com.example.taskList.domain.task.TaskImportResult;
+import com.example.taskList.repository.TaskCopyWriter;
+import com.example.taskList.repository.TaskImportRepository;
+import com.example.taskList.service.ReminderService;
+import com.example.taskList.service.TaskImportService;
+import com.example.taskList.service.props.ReminderProperties;
+import com.example.taskList.service.props.TaskImportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final int MAX_LENGTH = 255;
+    private static final DateTimeFormatter EXPIRATION_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd[' ']['T']HH:mm[:ss]");
+
+    private final TaskImportRepository taskImportRepository;
+    private final TaskImportProperties taskImportProperties;
+    private final TaskOwnershipCache taskOwnershipCache;
+    private final ReminderService reminderService;
+    private final ReminderProperties reminderProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.USERS, allEntries = true)
+    public TaskImportResult importTasks(InputStream inputStream, TaskImportFormat format) {
+        long start = System.nanoTime();
+        TaskImportResult result = new TaskImportResult();
+        taskImportRepository.createStaging();
+        try (TaskCopyWriter writer = taskImportRepository.openCopy(taskImportProperties.getBufferSize())) {
+            TaskImportReader reader = TaskImportReader.of(format,
+                    new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+                    objectMapper,
+                    taskImportProperties.getMaxRecordLength());
+            TaskImportReader.Row row;
+            Task task = new Task();
+            while ((row = reader.next()) != null) {
+                result.setRead(result.getRead() + 1);
+                String error = row.error() != null ? row.error() : validate(row, task);
+                if (error != null) {
+                    reject(result, row.lineNumber(), error);
+                    continue;
+                }
+                writer.write(row.lineNumber(), Long.parseLong(row.userId()), task);
+            }
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        for (Long line : taskImportRepository.findUnknownUserLines(remainingSamples(result))) {
+            result.getRejections().add("line " + line + ": User not found.");
+        }
+        result.setRejected(result.getRejected() + taskImportRepository.deleteUnknownUsers());
+        result.setImported(taskImportRepository.merge());
+        if (reminderProperties.isEnabled()) {
+            reminderService.claimLateByIds(taskImportRepository.findPendingTaskIdsDueBefore(
+                    LocalDateTime.now().plus(reminderProperties.getHorizon())));
+        }
+        taskOwnershipCache.invalidateAllAfterCommit();
+
+        long elapsed = System.nanoTime() - start;
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsed));
+        result.setRowsPerSecond(elapsed > 0 ? result.getRead() * TimeUnit.SECONDS.toNanos(1) / elapsed : 0);
+        log.info("Imported {} of {} tasks in {} ms ({} rows/s, {} rejected)",
+                result.getImported(), result.getRead(), result.getElapsedMillis(),
+                result.getRowsPerSecond(), result.getRejected());
+        return result;
+    }
+
+    private String validate(TaskImportReader.Row row, Task task) {
+        if (row.userId() == null) {
+            return "User id must be not null.";
+        }
+        try {
+            Long.parseLong(row.userId());
+        } catch (NumberFormatException e) {
+            return "Invalid user id.";
+        }
+        if (row.title() == null) {
+            return "Title must be not null.";
+        }
+        if (row.title().length() > MAX_LENGTH) {
+            return "Title length must be smaller than 255 symbols.";
+        }
+        if (row.description() != null && row.description().length() > MAX_LENGTH) {
+            return "Description length must be smaller than 255 symbols.";
+        }
+        Status status = Status.TODO;
+        if (row.status() != null) {
+            try {
+                status = Status.valueOf(row.status().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return "Invalid status.";
+            }
+        }
+        LocalDateTime expirationDate = null;
+        if (row.expirationDate() != null) {
+            try {
+                expirationDate = LocalDateTime.parse(row.expirationDate().trim(), EXPIRATION_DATE);
+            } catch (DateTimeParseException e) {
+                return "Invalid expiration date.";
+            }
+        }
+        task.setTitle(row.title());
+        task.setDescription(row.description());
+        task.setStatus(status);
+        task.setExpirationDate(expirationDate);
+        return null;
+    }
+
+    private void reject(TaskImportResult result, long lineNumber, String error) {
+        result.setRejected(result.getRejected() + 1);
+        if (remainingSamples(result) > 0) {
+            result.getRejections().add("line " + lineNumber + ": " + error);
+        }
+    }
+
+    private int remainingSamples(TaskImportResult result) {
+        return Math.max(0, taskImportProperties.getRejectionSampleSize() - result.getRejections().size());
+    }
+}
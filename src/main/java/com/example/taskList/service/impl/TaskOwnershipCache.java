@@ -0,0 +1,82 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.repository.UserRepository;
+import com.example.taskList.service.props.EntityCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TaskOwnershipCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<Long, TaskIdSet> taskIds;
+
+    public TaskOwnershipCache(UserRepository userRepository,
+                              EntityCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        EntityCacheProperties.Spec spec = properties.getOwnership();
+        this.userRepository = userRepository;
+        this.enabled = spec.isEnabled();
+        this.taskIds = Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumSize())
+                .weigher((Long userId, TaskIdSet ids) -> ids.size() + 1)
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, taskIds, "ownership");
+    }
+
+    public boolean isTaskOwner(Long userId, Long taskId) {
+        if (enabled && taskIds.get(userId, this::load).contains(taskId)) {
+            return true;
+        }
+        boolean owner = userRepository.isTaskOwner(userId, taskId);
+        if (owner) {
+            addTasks(userId, new long[]{taskId});
+        }
+        return owner;
+    }
+
+    public void addTasksAfterCommit(Long userId, long[] ids) {
+        afterCommit(() -> addTasks(userId, ids));
+    }
+
+    public void removeTaskAfterCommit(Long userId, Long taskId) {
+        afterCommit(() -> taskIds.asMap().computeIfPresent(userId, (id, current) -> current.without(taskId)));
+    }
+
+    public void invalidateAfterCommit(Long userId) {
+        afterCommit(() -> taskIds.invalidate(userId));
+    }
+
+    public void invalidateAllAfterCommit() {
+        afterCommit(taskIds::invalidateAll);
+    }
+
+    private void addTasks(Long userId, long[] ids) {
+        taskIds.asMap().computeIfPresent(userId, (id, current) -> current.with(ids));
+    }
+
+    private TaskIdSet load(Long userId) {
+        return TaskIdSet.of(userRepository.findTaskIdsByUserId(userId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.repository.TaskRepository;
+import com.example.taskList.service.props.TaskPurgeProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes soft-deleted and orphaned tasks one id range at a time, each range
+ * in its own short statement, and sleeps between ranges for at least as long
+ * as the last one took, so a pass never holds locks for long.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tasks.purge", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TaskPurger implements SchedulingConfigurer {
+
+    private final TaskRepository taskRepository;
+    private final TaskPurgeProperties taskPurgeProperties;
+
+    private volatile boolean stopped;
+
+    @PreDestroy
+    public void destroy() {
+        stopped = true;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::purge, taskPurgeProperties.getInterval());
+    }
+
+    public void purge() {
+        try {
+            Long maxId = taskRepository.findMaxId();
+            if (maxId == null) {
+                return;
+            }
+            LocalDateTime deletedBefore = LocalDateTime.now().minus(taskPurgeProperties.getRetention());
+            long pauseNanos = taskPurgeProperties.getPause().toNanos();
+            long purged = 0;
+            long fromId = 0;
+            while (fromId < maxId && !stopped) {
+                long toId = Math.min(fromId + taskPurgeProperties.getChunkSize(), maxId);
+                long start = System.nanoTime();
+                purged += taskRepository.purge(fromId, toId, deletedBefore);
+                fromId = toId;
+                TimeUnit.NANOSECONDS.sleep(Math.max(pauseNanos, System.nanoTime() - start));
+            }
+            if (purged > 0) {
+                log.info("Purged {} tasks up to id {}", purged, fromId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Task purge failed", e);
+        }
+    }
+}
@@ -1,24 +1,46 @@
 package com.example.taskList.service.impl;
 
+import com.example.taskList.config.CacheConfig;
 import com.example.taskList.domain.exception.ResourceNotFoundException;
+import com.example.taskList.domain.exception.StaleResourceException;
 import com.example.taskList.domain.task.Status;
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskFilter;
+import com.example.taskList.domain.task.TaskSearch;
+import com.example.taskList.domain.task.TaskSearchHit;
+import com.example.taskList.domain.task.TaskStatusTransition;
 import com.example.taskList.repository.TaskRepository;
+import com.example.taskList.service.ReminderService;
 import com.example.taskList.service.TaskService;
+import com.example.taskList.service.props.TaskBulkProperties;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
+    private final TaskBulkProperties taskBulkProperties;
+    private final CacheManager cacheManager;
+    private final TaskOwnershipCache taskOwnershipCache;
+    private final ReminderService reminderService;
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.TASKS, key = "#id")
     public Task getById(Long id) {
         return taskRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Task not found"));
     }
@@ -29,30 +51,126 @@ public class TaskServiceImpl implements TaskService {
         return taskRepository.findAllByUserId(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getPageByUserId(Long id, TaskFilter filter) {
+        return taskRepository.findPageByUserId(id, filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSearchHit> search(Long id, TaskSearch search) {
+        return taskRepository.search(id, search);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllByUserId(Long id, Consumer<Task> consumer) {
+        try (Cursor<Task> tasks = taskRepository.streamAllByUserId(id)) {
+            tasks.forEach(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.TASKS, key = "#task.id")
     public Task update(Task task) {
         if (task.getStatus() == null) {
             task.setStatus(Status.TODO);
         }
-        taskRepository.update(task);
+        boolean rescheduled = reminderService.isWithinClaimWindow(task)
+                && taskRepository.findById(task.getId())
+                .map(current -> !Objects.equals(current.getExpirationDate(), task.getExpirationDate()))
+                .orElse(false);
+        int updated = taskRepository.update(task);
+        if (updated > 0) {
+            evictUser(taskRepository.findOwnerId(task.getId()));
+            if (rescheduled) {
+                reminderService.claimLateByIds(List.of(task.getId()));
+            }
+        }
+        if (task.getVersion() == null) {
+            return taskRepository.findById(task.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        }
+        if (updated == 0) {
+            if (taskRepository.findById(task.getId()).isEmpty()) {
+                throw new ResourceNotFoundException("Task not found");
+            }
+            throw new StaleResourceException("Task was modified by another request.");
+        }
+        task.setVersion(task.getVersion() + 1);
         return task;
     }
 
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.USERS, key = "#transition.userId")
+    public List<Long> updateStatus(TaskStatusTransition transition) {
+        List<Long> ids = taskRepository.updateStatus(transition);
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+        if (tasks != null) {
+            ids.forEach(tasks::evict);
+        }
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.USERS, key = "#userId")
     public Task create(Task task, Long userId) {
         if (task.getStatus() == null) {
             task.setStatus(Status.TODO);
         }
         taskRepository.create(task);
         taskRepository.assignToUserById(task.getId(), userId);
+        taskOwnershipCache.addTasksAfterCommit(userId, new long[]{task.getId()});
+        reminderService.claimLate(List.of(task));
         return task;
     }
 
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.USERS, key = "#userId")
+    public List<Task> createAll(List<Task> tasks, Long userId) {
+        for (Task task : tasks) {
+            if (task.getStatus() == null) {
+                task.setStatus(Status.TODO);
+            }
+        }
+        int batchSize = taskBulkProperties.getBatchSize();
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            List<Task> batch = tasks.subList(from, Math.min(from + batchSize, tasks.size()));
+            taskRepository.createAll(batch);
+            taskRepository.assignAllToUserById(batch.stream()
+                    .map(Task::getId)
+                    .toList(), userId);
+        }
+        taskOwnershipCache.addTasksAfterCommit(userId, tasks.stream()
+                .mapToLong(Task::getId)
+                .toArray());
+        reminderService.claimLate(tasks);
+        return tasks;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.TASKS, key = "#id")
     public void delete(Long id) {
+        Long ownerId = taskRepository.findOwnerId(id);
         taskRepository.delete(id);
+        if (ownerId != null) {
+            evictUser(ownerId);
+            taskOwnershipCache.removeTaskAfterCommit(ownerId, id);
+        }
+    }
+
+    private void evictUser(Long userId) {
+        Cache users = cacheManager.getCache(CacheConfig.USERS);
+        if (users != null && userId != null) {
+            users.evict(userId);
+        }
     }
 }
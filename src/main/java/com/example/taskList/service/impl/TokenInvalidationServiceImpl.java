@@ -0,0 +1,59 @@
+package com.example.taskList.service.impl;
+
+import com.example.taskList.service.TokenInvalidationService;
+import com.example.taskList.service.props.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Remembers, per user, the instant before which access tokens are no longer
+ * accepted. Entries outlive every token issued before them: they expire after
+ * the access token lifetime, not on a size bound, so an invalidation is never
+ * evicted early. Token issue times have second precision, so a token issued
+ * in the same second as the invalidation is rejected as well.
+ */
+@Service
+public class TokenInvalidationServiceImpl implements TokenInvalidationService {
+
+    private final Cache<Long, Instant> validAfter;
+
+    public TokenInvalidationServiceImpl(JwtProperties jwtProperties) {
+        this.validAfter = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(jwtProperties.getAccess()).plusMinutes(1))
+                .build();
+    }
+
+    @Override
+    public void invalidateUserTokens(Long userId) {
+        afterCommit(() -> validAfter.put(userId, Instant.now().truncatedTo(ChronoUnit.SECONDS)));
+    }
+
+    @Override
+    public boolean isValid(Long userId, Instant issuedAt) {
+        Instant after = validAfter.getIfPresent(userId);
+        if (after == null) {
+            return true;
+        }
+        return issuedAt != null && issuedAt.isAfter(after);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
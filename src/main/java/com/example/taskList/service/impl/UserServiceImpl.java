@@ -1,15 +1,26 @@
 package com.example.taskList.service.impl;
 
+import com.example.taskList.config.CacheConfig;
 import com.example.taskList.domain.exception.ResourceNotFoundException;
 import com.example.taskList.domain.user.Role;
 import com.example.taskList.domain.user.User;
 import com.example.taskList.repository.UserRepository;
+import com.example.taskList.service.BulkPasswordEncoder;
+import com.example.taskList.service.TokenInvalidationService;
 import com.example.taskList.service.UserService;
+import com.example.taskList.service.props.UserBulkProperties;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -18,9 +29,14 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenInvalidationService tokenInvalidationService;
+    private final TaskOwnershipCache taskOwnershipCache;
+    private final UserBulkProperties userBulkProperties;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.USERS, key = "#id")
     public User getById(Long id) {
         return userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
@@ -31,41 +47,99 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByUsername(username).orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public User getCredentialsByUsername(String username) {
+        return userRepository.findCredentialsByUsername(username).orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.USERS, key = "#user.id")
     public User update(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         userRepository.update(user);
+        tokenInvalidationService.invalidateUserTokens(user.getId());
+        return user;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.USERS, key = "#result.id")
+    public User updatePasswordHash(String username, String encodedPassword) {
+        User user = getCredentialsByUsername(username);
+        user.setPassword(encodedPassword);
+        userRepository.update(user);
         return user;
     }
 
     @Override
     @Transactional
     public User create(User user) {
-        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
-            throw new IllegalStateException("User already exists.");
-        }
         if (!user.getPassword().equals(user.getPasswordConfirmation())) {
             throw new IllegalStateException("Password and password confirmation do not match.");
         }
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.create(user);
-        Set<Role> roles = Set.of(Role.ROLE_USER);
-        userRepository.insertUserRole(user.getId(), Role.ROLE_USER);
-        user.setRoles(roles);
+        Long id = userRepository.createWithRole(user, Role.ROLE_USER);
+        if (id == null) {
+            throw new IllegalStateException("User already exists.");
+        }
+        user.setId(id);
+        user.setRoles(Set.of(Role.ROLE_USER));
         return user;
     }
 
+    @Override
+    public List<User> createAll(List<User> users) {
+        List<String> encoded = encodeAll(users.stream()
+                .map(User::getPassword)
+                .toList());
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setPassword(encoded.get(i));
+        }
+        return transactionTemplate.execute(status -> insertAll(users));
+    }
+
+    private List<String> encodeAll(List<String> rawPasswords) {
+        if (passwordEncoder instanceof BulkPasswordEncoder bulkPasswordEncoder) {
+            return bulkPasswordEncoder.encodeAll(rawPasswords);
+        }
+        return rawPasswords.stream()
+                .map(passwordEncoder::encode)
+                .toList();
+    }
+
+    private List<User> insertAll(List<User> users) {
+        Map<String, User> byUsername = new HashMap<>();
+        for (User user : users) {
+            byUsername.put(user.getUsername(), user);
+        }
+        List<User> created = new ArrayList<>(users.size());
+        int batchSize = userBulkProperties.getBatchSize();
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<User> batch = users.subList(from, Math.min(from + batchSize, users.size()));
+            for (User row : userRepository.createAllWithRole(batch, Role.ROLE_USER)) {
+                User user = byUsername.get(row.getUsername());
+                user.setId(row.getId());
+                user.setRoles(Set.of(Role.ROLE_USER));
+                created.add(user);
+            }
+        }
+        return created;
+    }
+
 
     @Override
-    @Transactional(readOnly = true)
     public boolean isTaskOwner(Long userId, Long taskId) {
-        return false;
+        return taskOwnershipCache.isTaskOwner(userId, taskId);
     }
 
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.USERS, key = "#id")
     public void delete(Long id) {
         userRepository.delete(id);
+        tokenInvalidationService.invalidateUserTokens(id);
+        taskOwnershipCache.invalidateAfterCommit(id);
     }
 }
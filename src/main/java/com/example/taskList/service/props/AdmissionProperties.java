@@ -0,0 +1,14 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "repository.admission")
+public class AdmissionProperties {
+
+    private boolean enabled;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,25 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "cache")
+public class EntityCacheProperties {
+
+    private Spec tasks = new Spec();
+    private Spec users = new Spec();
+    private Spec ownership = new Spec();
+
+    @Data
+    public static class Spec {
+
+        private boolean enabled = true;
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
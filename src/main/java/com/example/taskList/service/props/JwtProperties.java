@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @Data
 @ConfigurationProperties(prefix = "security.jwt")
@@ -12,4 +14,15 @@ public class JwtProperties {
     private String secret;
     private long access;
     private long refresh;
+    private boolean claimsAuthentication;
+    private long principalCacheSize = 10_000;
+    private Duration principalCacheTtl = Duration.ofMinutes(5);
+    private long verifiedTokenCacheSize = 10_000;
+    private Duration verifiedTokenCacheTtl = Duration.ofMinutes(5);
+    private Duration revocationSyncInterval = Duration.ofSeconds(30);
+    private long revocationExpectedSessions = 100_000;
+    private double revocationFalsePositiveRate = 0.01;
+    private Duration refreshPurgeInterval = Duration.ofHours(1);
+    private int refreshPurgeChunkSize = 1000;
+    private Duration refreshPurgePause = Duration.ofMillis(200);
 }
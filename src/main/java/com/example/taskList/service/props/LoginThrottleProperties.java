@@ -0,0 +1,34 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "security.throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+    private long maximumKeys = 100_000;
+    private Duration idleExpiry = Duration.ofMinutes(15);
+    private Limit username = new Limit(5, Duration.ofSeconds(12));
+    private Limit address = new Limit(20, Duration.ofSeconds(3));
+
+    @Data
+    public static class Limit {
+
+        private int capacity;
+        private Duration refillPeriod;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
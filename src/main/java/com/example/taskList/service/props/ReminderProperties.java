@@ -0,0 +1,22 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasks.reminders")
+public class ReminderProperties {
+
+    private boolean enabled;
+    private Duration scanInterval = Duration.ofSeconds(30);
+    private Duration horizon = Duration.ofMinutes(2);
+    private Duration maxCatchUp = Duration.ofHours(1);
+    private int batchSize = 1000;
+    private Duration tick = Duration.ofMillis(100);
+    private int ticksPerWheel = 512;
+    private long lockKey = 7_316_001L;
+}
@@ -0,0 +1,16 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "repository")
+public class RepositoryProperties {
+
+    private String backend = "mybatis";
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+}
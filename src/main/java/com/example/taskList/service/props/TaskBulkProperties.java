@@ -0,0 +1,14 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasks.bulk")
+public class TaskBulkProperties {
+
+    private int batchSize = 500;
+    private int maxSize = 10_000;
+}
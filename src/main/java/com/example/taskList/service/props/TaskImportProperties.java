@@ -0,0 +1,15 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasks.import")
+public class TaskImportProperties {
+
+    private int bufferSize = 64 * 1024;
+    private int rejectionSampleSize = 100;
+    private int maxRecordLength = 8 * 1024;
+}
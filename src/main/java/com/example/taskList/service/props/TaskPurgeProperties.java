@@ -0,0 +1,19 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "tasks.purge")
+public class TaskPurgeProperties {
+
+    private boolean enabled;
+    private Duration interval = Duration.ofMinutes(10);
+    private int chunkSize = 1000;
+    private Duration pause = Duration.ofMillis(200);
+    private Duration retention = Duration.ofDays(1);
+}
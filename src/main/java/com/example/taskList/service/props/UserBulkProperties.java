@@ -0,0 +1,14 @@
+package com.example.taskList.service.props;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "users.bulk")
+public class UserBulkProperties {
+
+    private int batchSize = 500;
+    private int maxSize = 10_000;
+}
@@ -8,8 +8,9 @@ import com.example.taskList.web.dto.auth.JwtResponse;
 import com.example.taskList.web.dto.user.UserDto;
 import com.example.taskList.web.dto.validation.OnCreate;
 import com.example.taskList.web.mappers.UserMapper;
+import com.example.taskList.web.security.LoginThrottle;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -25,16 +26,19 @@ public class AuthController {
     private final AuthService authService;
     private final UserService userService;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
-    public JwtResponse login(@Validated @RequestBody final JwtRequest loginRequest) {
-        passwordEncoder.encode("12345");
+    public JwtResponse login(@Validated @RequestBody final JwtRequest loginRequest,
+                             HttpServletRequest request) {
+        loginThrottle.check(loginRequest.getUsername(), request.getRemoteAddr());
         return authService.login(loginRequest);
     }
 
     @PostMapping("/register")
-    public UserDto register(@Validated(OnCreate.class) @RequestBody UserDto userDto) {
+    public UserDto register(@Validated(OnCreate.class) @RequestBody UserDto userDto,
+                           HttpServletRequest request) {
+        loginThrottle.check(userDto.getUsername(), request.getRemoteAddr());
         User user = userMapper.toEntity(userDto);
         User createdUser = userService.create(user);
         return userMapper.toDto(createdUser);
@@ -1,10 +1,18 @@
 package com.example.taskList.web.controller;
 
 import com.example.taskList.domain.exception.AccessDeniedException;
+import com.example.taskList.domain.exception.BulkValidationException;
 import com.example.taskList.domain.exception.ExceptionBody;
+import com.example.taskList.domain.exception.InvalidCursorException;
+import com.example.taskList.domain.exception.InvalidImportException;
 import com.example.taskList.domain.exception.ResourceMappingException;
 import com.example.taskList.domain.exception.ResourceNotFoundException;
+import com.example.taskList.domain.exception.ServiceOverloadedException;
+import com.example.taskList.domain.exception.StaleResourceException;
+import com.example.taskList.domain.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -24,6 +32,26 @@ public class ControllerAdvice {
         return new ExceptionBody(e.getMessage());
     }
 
+    @ExceptionHandler(StaleResourceException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ExceptionBody handleStaleResource(StaleResourceException e) {
+        return new ExceptionBody(e.getMessage());
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ExceptionBody handleServiceOverloaded(ServiceOverloadedException e, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        return new ExceptionBody(e.getMessage());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ExceptionBody handleTooManyRequests(TooManyRequestsException e, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()));
+        return new ExceptionBody(e.getMessage());
+    }
+
     @ExceptionHandler(ResourceMappingException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ExceptionBody handleResourceMapping(ResourceMappingException e) {
@@ -36,6 +64,18 @@ public class ControllerAdvice {
         return new ExceptionBody(e.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionBody handleInvalidCursor(InvalidCursorException e) {
+        return new ExceptionBody(e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionBody handleInvalidImport(InvalidImportException e) {
+        return new ExceptionBody(e.getMessage());
+    }
+
     @ExceptionHandler({AccessDeniedException.class, org.springframework.security.access.AccessDeniedException.class})
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ExceptionBody AccessDenied() {
@@ -52,6 +92,12 @@ public class ControllerAdvice {
         return exceptionBody;
     }
 
+    @ExceptionHandler(BulkValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ExceptionBody handleBulkValidation(BulkValidationException e) {
+        return new ExceptionBody(e.getMessage(), e.getErrors());
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ExceptionBody handleConstraintViolation(ConstraintViolationException e) {
@@ -0,0 +1,58 @@
+package com.example.taskList.web.controller;
+
+import com.example.taskList.domain.exception.StaleResourceException;
+import com.example.taskList.domain.task.Task;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Task task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    static String of(List<? extends Task> tasks) {
+        long hash = 1125899906842597L;
+        for (Task task : tasks) {
+            hash = 31 * hash + task.getId();
+            hash = 31 * hash + task.getVersion();
+        }
+        return "W/\"" + tasks.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * The same URL serves JSON, CBOR and Smile under one ETag, so the
+     * response varies by Accept, including the 304.
+     */
+    static boolean checkNotModified(WebRequest request, String eTag) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            HttpServletResponse response = servletRequest.getResponse();
+            if (response != null) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            }
+        }
+        return request.checkNotModified(eTag);
+    }
+
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new StaleResourceException("If-Match must be a strong ETag of the task.");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new StaleResourceException("If-Match must be a strong ETag of the task.");
+        }
+    }
+}
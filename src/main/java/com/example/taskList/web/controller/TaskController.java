@@ -1,13 +1,23 @@
 package com.example.taskList.web.controller;
 
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskImportFormat;
+import com.example.taskList.domain.task.TaskImportResult;
+import com.example.taskList.service.TaskImportService;
 import com.example.taskList.service.TaskService;
 import com.example.taskList.web.dto.task.TaskDto;
 import com.example.taskList.web.dto.validation.OnUpdate;
 import com.example.taskList.web.mappers.TaskMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
@@ -15,23 +25,48 @@ import org.springframework.web.bind.annotation.*;
 @Validated
 public class TaskController {
 
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
     private final TaskMapper taskMapper;
 
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    @PreAuthorize("@customSecurityExpression.isAdmin()")
+    public TaskImportResult importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                        InputStream body) {
+        TaskImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf(TEXT_CSV))
+                ? TaskImportFormat.CSV
+                : TaskImportFormat.NDJSON;
+        return taskImportService.importTasks(body, format);
+    }
+
     @PutMapping
-    public TaskDto update(@Validated(OnUpdate.class) @RequestBody TaskDto dto) {
+    @PreAuthorize("@customSecurityExpression.canAccessTask(#dto.id)")
+    public ResponseEntity<TaskDto> update(@Validated(OnUpdate.class) @RequestBody TaskDto dto,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Task task = taskMapper.toEntity(dto);
+        task.setVersion(ETags.parseVersion(ifMatch));
         Task updatedTask = taskService.update(task);
-        return taskMapper.toDto(updatedTask);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updatedTask))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(taskMapper.toDto(updatedTask));
     }
 
     @GetMapping("/{id}")
-    public TaskDto getById(@PathVariable Long id) {
+    @PreAuthorize("@customSecurityExpression.canAccessTask(#id)")
+    public TaskDto getById(@PathVariable Long id, WebRequest request) {
         Task task = taskService.getById(id);
+        if (ETags.checkNotModified(request, ETags.of(task))) {
+            return null;
+        }
         return taskMapper.toDto(task);
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("@customSecurityExpression.canAccessTask(#id)")
     public void deleteById(@PathVariable Long id) {
         taskService.delete(id);
     }
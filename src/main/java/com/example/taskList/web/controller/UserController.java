@@ -1,20 +1,55 @@
 package com.example.taskList.web.controller;
 
+import com.example.taskList.domain.exception.BulkValidationException;
+import com.example.taskList.domain.exception.InvalidCursorException;
+import com.example.taskList.domain.task.Status;
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskFilter;
+import com.example.taskList.domain.task.TaskSearch;
+import com.example.taskList.domain.task.TaskSearchHit;
+import com.example.taskList.domain.task.TaskStatusTransition;
 import com.example.taskList.domain.user.User;
 import com.example.taskList.service.TaskService;
 import com.example.taskList.service.UserService;
+import com.example.taskList.service.props.TaskBulkProperties;
+import com.example.taskList.service.props.UserBulkProperties;
 import com.example.taskList.web.dto.task.TaskDto;
+import com.example.taskList.web.dto.task.TaskStatusTransitionDto;
 import com.example.taskList.web.dto.user.UserDto;
 import com.example.taskList.web.dto.validation.OnCreate;
 import com.example.taskList.web.dto.validation.OnUpdate;
 import com.example.taskList.web.mappers.TaskMapper;
 import com.example.taskList.web.mappers.UserMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -22,36 +57,146 @@ import java.util.List;
 @Validated
 public class UserController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserService userService;
     private final TaskService taskService;
     private final UserMapper userMapper;
     private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TaskBulkProperties taskBulkProperties;
+    private final UserBulkProperties userBulkProperties;
 
     @PutMapping
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#dto.id)")
     public UserDto update(@Validated(OnUpdate.class) @RequestBody UserDto dto) {
         User user = userMapper.toEntity(dto);
         User updateUser = userService.update(user);
         return userMapper.toDto(updateUser);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("@customSecurityExpression.isAdmin()")
+    public List<UserDto> createUsers(@RequestBody List<UserDto> dtos) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (dtos.isEmpty() || dtos.size() > userBulkProperties.getMaxSize()) {
+            errors.put("users", "Number of users must be between 1 and " + userBulkProperties.getMaxSize() + ".");
+        }
+        Set<String> usernames = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            UserDto dto = dtos.get(i);
+            for (ConstraintViolation<UserDto> violation : validator.validate(dto, OnCreate.class)) {
+                errors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+            if (dto.getPassword() != null && !dto.getPassword().equals(dto.getPasswordConfirmation())) {
+                errors.put("[" + i + "].passwordConfirmation", "Password and password confirmation do not match.");
+            }
+            if (dto.getUsername() != null && !usernames.add(dto.getUsername())) {
+                errors.put("[" + i + "].username", "Username is duplicated in the request.");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BulkValidationException("Validation failed.", errors);
+        }
+        List<User> users = dtos.stream()
+                .map(userMapper::toEntity)
+                .toList();
+        List<User> createdUsers = userService.createAll(users);
+        return userMapper.toDto(createdUsers);
+    }
+
     @GetMapping("/{id}")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
     public UserDto getById(@PathVariable Long id) {
         User user = userService.getById(id);
         return userMapper.toDto(user);
     }
 
     @DeleteMapping("/{id}")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
     public void deleteById(@PathVariable Long id) {
         userService.delete(id);
     }
 
     @GetMapping("/{id}/tasks")
-    public List<TaskDto> getTasksByUserId(@PathVariable Long id) {
-        List<Task> tasks = taskService.getAllByUserId(id);
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public List<TaskDto> getTasksByUserId(@PathVariable Long id,
+                                          @RequestParam(required = false) Long after,
+                                          @RequestParam(required = false) Status status,
+                                          @RequestParam(required = false)
+                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresFrom,
+                                          @RequestParam(required = false)
+                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiresTo,
+                                          @RequestParam(defaultValue = "50")
+                                          @Min(value = 1, message = "Limit must be at least 1.")
+                                          @Max(value = 500, message = "Limit must be at most 500.") int limit,
+                                          WebRequest request) {
+        TaskFilter filter = new TaskFilter();
+        filter.setAfterId(after);
+        filter.setStatus(status);
+        filter.setExpiresFrom(expiresFrom);
+        filter.setExpiresTo(expiresTo);
+        filter.setLimit(limit);
+        List<Task> tasks = taskService.getPageByUserId(id, filter);
+        if (ETags.checkNotModified(request, ETags.of(tasks))) {
+            return null;
+        }
         return taskMapper.toDto(tasks);
     }
 
+    @GetMapping("/{id}/tasks/search")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public ResponseEntity<List<TaskDto>> searchTasks(@PathVariable Long id,
+                                                     @RequestParam("q")
+                                                     @NotBlank(message = "Query must be not null.")
+                                                     @Size(max = 255, message = "Query length must be smaller than 255 symbols.") String query,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20")
+                                                     @Min(value = 1, message = "Limit must be at least 1.")
+                                                     @Max(value = 100, message = "Limit must be at most 100.") int limit) {
+        TaskSearch search = new TaskSearch();
+        search.setQuery(query);
+        search.setLimit(limit);
+        if (cursor != null) {
+            decodeCursor(cursor, search);
+        }
+        List<TaskSearchHit> hits = taskService.search(id, search);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (hits.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, encodeCursor(hits.get(hits.size() - 1)));
+        }
+        return response.body(hits.stream()
+                .map(taskMapper::toDto)
+                .toList());
+    }
+
+    @GetMapping("/{id}/tasks/export")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public ResponseEntity<StreamingResponseBody> exportTasksByUserId(@PathVariable Long id) {
+        ObjectWriter writer = objectMapper.writerFor(TaskDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                taskService.exportAllByUserId(id, task -> {
+                    try {
+                        writer.writeValue(generator, taskMapper.toDto(task));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("/{id}/tasks")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
     public TaskDto createTask(@PathVariable Long id,
                               @Validated(OnCreate.class) @RequestBody TaskDto dto) {
 
@@ -59,4 +204,54 @@ public class UserController {
         Task createdTask = taskService.create(task, id);
         return taskMapper.toDto(createdTask);
     }
+
+    @PutMapping("/{id}/tasks/status")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public List<Long> updateTasksStatus(@PathVariable Long id,
+                                        @Validated @RequestBody TaskStatusTransitionDto dto) {
+        TaskStatusTransition transition = taskMapper.toEntity(dto);
+        transition.setUserId(id);
+        return taskService.updateStatus(transition);
+    }
+
+    @PostMapping("/{id}/tasks/bulk")
+    @PreAuthorize("@customSecurityExpression.canAccessUser(#id)")
+    public List<TaskDto> createTasks(@PathVariable Long id,
+                                     @RequestBody List<TaskDto> dtos) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (dtos.isEmpty() || dtos.size() > taskBulkProperties.getMaxSize()) {
+            errors.put("tasks", "Number of tasks must be between 1 and " + taskBulkProperties.getMaxSize() + ".");
+        }
+        for (int i = 0; i < dtos.size(); i++) {
+            for (ConstraintViolation<TaskDto> violation : validator.validate(dtos.get(i), OnCreate.class)) {
+                errors.put("[" + i + "]." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BulkValidationException("Validation failed.", errors);
+        }
+        List<Task> tasks = dtos.stream()
+                .map(taskMapper::toEntity)
+                .toList();
+        List<Task> createdTasks = taskService.createAll(tasks, id);
+        return taskMapper.toDto(createdTasks);
+    }
+
+    private static String encodeCursor(TaskSearchHit hit) {
+        String cursor = Float.floatToIntBits(hit.getRank()) + ":" + hit.getId();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void decodeCursor(String cursor, TaskSearch search) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf(':');
+            search.setAfterRank(Float.intBitsToFloat(Integer.parseInt(decoded.substring(0, separator))));
+            search.setAfterId(Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor.");
+        }
+    }
 }
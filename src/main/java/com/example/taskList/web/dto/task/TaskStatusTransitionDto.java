@@ -0,0 +1,23 @@
+package com.example.taskList.web.dto.task;
+
+import com.example.taskList.domain.task.Status;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskStatusTransitionDto {
+
+    @Size(max = 10000, message = "Ids size must be smaller than 10000.")
+    private List<Long> ids;
+
+    private Status fromStatus;
+
+    @NotNull(message = "Status must be not null.")
+    private Status toStatus;
+
+    private boolean overdueOnly;
+
+}
@@ -1,8 +1,11 @@
 package com.example.taskList.web.mappers;
 
 import com.example.taskList.domain.task.Task;
+import com.example.taskList.domain.task.TaskStatusTransition;
 import com.example.taskList.web.dto.task.TaskDto;
+import com.example.taskList.web.dto.task.TaskStatusTransitionDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -13,6 +16,10 @@ public interface TaskMapper {
 
     List<TaskDto> toDto(List<Task> tasks);
 
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskDto dto);
 
+    @Mapping(target = "userId", ignore = true)
+    TaskStatusTransition toEntity(TaskStatusTransitionDto dto);
+
 }
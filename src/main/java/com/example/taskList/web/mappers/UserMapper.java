@@ -4,11 +4,15 @@ import com.example.taskList.domain.user.User;
 import com.example.taskList.web.dto.user.UserDto;
 import org.mapstruct.Mapper;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface UserMapper {
 
     UserDto toDto(User user);
 
+    List<UserDto> toDto(List<User> users);
+
     User toEntity(UserDto dto);
 
 }
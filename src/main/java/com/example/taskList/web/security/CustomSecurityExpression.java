@@ -0,0 +1,49 @@
+package com.example.taskList.web.security;
+
+import com.example.taskList.domain.user.Role;
+import com.example.taskList.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+@Service("customSecurityExpression")
+@RequiredArgsConstructor
+public class CustomSecurityExpression {
+
+    private final UserService userService;
+
+    public boolean canAccessUser(final Long id) {
+        JwtEntity user = getPrincipal();
+        if (user == null) {
+            return false;
+        }
+        return user.getId().equals(id) || hasRole(user, Role.ROLE_ADMIN);
+    }
+
+    public boolean canAccessTask(final Long taskId) {
+        JwtEntity user = getPrincipal();
+        if (user == null || taskId == null) {
+            return false;
+        }
+        return hasRole(user, Role.ROLE_ADMIN) || userService.isTaskOwner(user.getId(), taskId);
+    }
+
+    public boolean isAdmin() {
+        JwtEntity user = getPrincipal();
+        return user != null && hasRole(user, Role.ROLE_ADMIN);
+    }
+
+    private JwtEntity getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtEntity user)) {
+            return null;
+        }
+        return user;
+    }
+
+    private boolean hasRole(final JwtEntity user, final Role role) {
+        return user.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals(role.name()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.taskList.web.security;
+
+import com.example.taskList.service.props.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Principals built from access token claims, keyed by the token's jti, so a
+ * principal is only ever served for the token whose roles it was built from.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, JwtEntity> principals;
+
+    public JwtPrincipalCache(final JwtProperties jwtProperties) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCacheSize())
+                .expireAfterWrite(jwtProperties.getPrincipalCacheTtl())
+                .build();
+    }
+
+    public JwtEntity get(final String tokenId,
+                         final Supplier<JwtEntity> factory) {
+        return principals.get(tokenId, id -> factory.get());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.taskList.web.security;
 
 import com.example.taskList.domain.exception.ResourceNotFoundException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
@@ -26,9 +27,12 @@ public class JwtTokenFilter extends GenericFilterBean {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             bearerToken = bearerToken.substring(7);
         }
-        if (bearerToken != null && jwtTokenProvider.validateToken(bearerToken)) {
+        Claims claims = bearerToken != null
+                ? jwtTokenProvider.getValidAccessClaims(bearerToken)
+                : null;
+        if (claims != null) {
             try {
-                Authentication authentication = jwtTokenProvider.getAuthentication(bearerToken);
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
                 if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
@@ -37,4 +41,4 @@ public class JwtTokenFilter extends GenericFilterBean {
         }
         filterChain.doFilter(servletRequest, servletResponse);
     }
-}
\ No newline at end of file
+}
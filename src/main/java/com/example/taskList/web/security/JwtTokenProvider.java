@@ -1,13 +1,20 @@
 package com.example.taskList.web.security;
 
+import com.example.taskList.domain.auth.RefreshToken;
 import com.example.taskList.domain.exception.AccessDeniedException;
 import com.example.taskList.domain.user.Role;
 import com.example.taskList.domain.user.User;
+import com.example.taskList.service.RefreshTokenService;
+import com.example.taskList.service.TokenInvalidationService;
 import com.example.taskList.service.UserService;
 import com.example.taskList.service.props.JwtProperties;
 import com.example.taskList.web.dto.auth.JwtResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -19,40 +26,70 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
+
     private final JwtProperties jwtProperties;
 
     private final UserDetailsService userDetailsService;
     private final UserService userService;
+    private final JwtPrincipalCache jwtPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final TokenInvalidationService tokenInvalidationService;
     private SecretKey key;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new TokenExpiry(jwtProperties.getVerifiedTokenCacheTtl()))
+                .build();
     }
 
     public String createAccessToken(final Long userId,
                                     final String username,
-                                    final Set<Role> roles) {
+                                    final Set<Role> roles,
+                                    final UUID sessionId) {
         Claims claims = Jwts.claims()
                 .subject(username)
+                .id(UUID.randomUUID().toString())
                 .add("id", userId)
+                .add("sid", sessionId.toString())
+                .add("type", ACCESS)
                 .add("roles", resolveRoles(roles))
                 .build();
-        Instant validity = Instant.now()
-                .plus(jwtProperties.getAccess(), ChronoUnit.HOURS);
+        Instant now = Instant.now();
+        Instant validity = now.plus(jwtProperties.getAccess(), ChronoUnit.HOURS);
         return Jwts.builder()
                 .claims(claims)
+                .issuedAt(Date.from(now))
                 .expiration(Date.from(validity))
                 .signWith(key)
                 .compact();
@@ -64,13 +101,35 @@ public class JwtTokenProvider {
                 .collect(Collectors.toList());
     }
 
-    public String createRefreshToken(final Long userId, final String username) {
+    public String createRefreshToken(final Long userId,
+                                     final String username,
+                                     final UUID sessionId) {
+        RefreshToken refreshToken = newRefreshToken(userId, sessionId);
+        refreshTokenService.create(refreshToken);
+        return signRefreshToken(refreshToken, username);
+    }
+
+    private RefreshToken newRefreshToken(final Long userId, final UUID sessionId) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setJti(UUID.randomUUID());
+        refreshToken.setSessionId(sessionId);
+        refreshToken.setUserId(userId);
+        refreshToken.setExpiresAt(LocalDateTime.now()
+                .plus(jwtProperties.getRefresh(), ChronoUnit.DAYS));
+        return refreshToken;
+    }
+
+    private String signRefreshToken(final RefreshToken refreshToken, final String username) {
         Claims claims = Jwts.claims()
                 .subject(username)
-                .add("id", userId)
+                .id(refreshToken.getJti().toString())
+                .add("id", refreshToken.getUserId())
+                .add("sid", refreshToken.getSessionId().toString())
+                .add("type", REFRESH)
                 .build();
-        Instant validity = Instant.now()
-                .plus(jwtProperties.getRefresh(), ChronoUnit.DAYS);
+        Instant validity = refreshToken.getExpiresAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant();
         return Jwts.builder()
                 .claims(claims)
                 .expiration(Date.from(validity))
@@ -80,58 +139,175 @@ public class JwtTokenProvider {
 
     public JwtResponse refreshUserTokens(final String refreshToken) {
         JwtResponse jwtResponse = new JwtResponse();
-        if (!validateToken(refreshToken)) {
+        Claims claims = getValidClaims(refreshToken);
+        if (claims == null || !REFRESH.equals(claims.get("type"))) {
+            throw new AccessDeniedException();
+        }
+        UUID jti = parseUuid(claims.getId());
+        UUID sessionId = parseUuid(claims.get("sid", String.class));
+        if (jti == null || sessionId == null) {
+            throw new AccessDeniedException();
+        }
+        Long userId = claims.get("id", Number.class).longValue();
+        RefreshToken next = newRefreshToken(userId, sessionId);
+        if (!refreshTokenService.rotate(jti, next)) {
+            refreshTokenService.revokeSession(sessionId);
+            tokenRevocationList.revoke(sessionId, next.getExpiresAt());
             throw new AccessDeniedException();
         }
-        Long userId = Long.valueOf(getId(refreshToken));
         User user = userService.getById(userId);
         jwtResponse.setId(userId);
         jwtResponse.setUsername(user.getUsername());
         jwtResponse.setAccessToken(
-                createAccessToken(userId, user.getUsername(), user.getRoles())
+                createAccessToken(userId, user.getUsername(), user.getRoles(), sessionId)
         );
         jwtResponse.setRefreshToken(
-                createRefreshToken(userId, user.getUsername())
+                signRefreshToken(next, user.getUsername())
         );
         return jwtResponse;
     }
 
     public boolean validateToken(final String token) {
-        Jws<Claims> claims = Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
-        return claims.getPayload().getExpiration().after(new Date());
+        return getValidClaims(token) != null;
     }
 
-    private String getId(final String token) {
-        return Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("id", String.class);
+    public Claims getValidAccessClaims(final String token) {
+        Claims claims = getValidClaims(token);
+        if (claims == null || !ACCESS.equals(claims.get("type"))) {
+            return null;
+        }
+        return claims;
     }
 
-    private String getUsername(final String token) {
-        return Jwts
-                .parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public Claims getValidClaims(final String token) {
+        Claims claims;
+        try {
+            claims = parseClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration == null || !expiration.after(new Date())) {
+            return null;
+        }
+        UUID sessionId = parseUuid(claims.get("sid", String.class));
+        if (sessionId == null || tokenRevocationList.isRevoked(sessionId)) {
+            return null;
+        }
+        return claims;
+    }
+
+    private static UUID parseUuid(final String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
-    public Authentication getAuthentication(final String token) {
-        String username = getUsername(token);
-        UserDetails userDetails
-                = userDetailsService.loadUserByUsername(username);
+    public Claims parseClaims(final String token) {
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private String digest(final String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Authentication getAuthentication(final Claims claims) {
+        UserDetails userDetails = null;
+        if (jwtProperties.isClaimsAuthentication()) {
+            if (!isIssuedAfterInvalidation(claims)) {
+                return null;
+            }
+            userDetails = getPrincipalFromClaims(claims);
+        }
+        if (userDetails == null) {
+            userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        }
         return new UsernamePasswordAuthenticationToken(userDetails,
                 "",
                 userDetails.getAuthorities());
     }
 
-}
\ No newline at end of file
+    private boolean isIssuedAfterInvalidation(final Claims claims) {
+        Number id = claims.get("id", Number.class);
+        if (id == null) {
+            return true;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return tokenInvalidationService.isValid(id.longValue(),
+                issuedAt == null ? null : issuedAt.toInstant());
+    }
+
+    private JwtEntity getPrincipalFromClaims(final Claims claims) {
+        Number id = claims.get("id", Number.class);
+        List<?> roles = claims.get("roles", List.class);
+        if (id == null || roles == null || claims.getId() == null) {
+            return null;
+        }
+        Long userId = id.longValue();
+        String username = claims.getSubject();
+        return jwtPrincipalCache.get(claims.getId(), () -> JwtEntityFactory.create(
+                userId,
+                username,
+                roles.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.toList())
+        ));
+    }
+
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(final Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String digest,
+                                      final Claims claims,
+                                      final long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0, expiration.getTime() - System.currentTimeMillis())
+            );
+            return Math.min(untilExpiration, maxTtlNanos);
+        }
+
+        @Override
+        public long expireAfterUpdate(final String digest,
+                                      final Claims claims,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(digest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String digest,
+                                    final Claims claims,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
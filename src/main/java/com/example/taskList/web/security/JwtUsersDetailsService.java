@@ -4,19 +4,26 @@ import com.example.taskList.domain.user.User;
 import com.example.taskList.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class JwtUsersDetailsService implements UserDetailsService {
+public class JwtUsersDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     public final UserService userService;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userService.getByUsername(username);
+        User user = userService.getCredentialsByUsername(username);
+        return JwtEntityFactory.create(user);
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userService.updatePasswordHash(userDetails.getUsername(), newPassword);
         return JwtEntityFactory.create(user);
     }
 }
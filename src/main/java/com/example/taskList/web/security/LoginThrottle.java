@@ -0,0 +1,76 @@
+package com.example.taskList.web.security;
+
+import com.example.taskList.domain.exception.TooManyRequestsException;
+import com.example.taskList.service.props.LoginThrottleProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginThrottle {
+
+    private final LoginThrottleProperties properties;
+    private final Bucket username;
+    private final Bucket address;
+
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.username = new Bucket("username", properties.getUsername(), properties, meterRegistry);
+        this.address = new Bucket("address", properties.getAddress(), properties, meterRegistry);
+    }
+
+    public void check(String username, String address) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        this.address.acquire(address, now);
+        if (username != null) {
+            this.username.acquire(username.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private static final class Bucket {
+
+        private final LoginThrottleProperties.Limit limit;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Bucket(String key,
+                       LoginThrottleProperties.Limit limit,
+                       LoginThrottleProperties properties,
+                       MeterRegistry meterRegistry) {
+            this.limit = limit;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumKeys())
+                    .expireAfterAccess(properties.getIdleExpiry())
+                    .build();
+            this.allowed = Counter.builder("auth.throttle.requests")
+                    .tag("key", key)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("auth.throttle.requests")
+                    .tag("key", key)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry);
+        }
+
+        private void acquire(String key, long now) {
+            TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit.getCapacity(),
+                    limit.getRefillPeriod().toNanos(), now));
+            long wait = bucket.tryAcquire(now);
+            if (wait > 0) {
+                rejected.increment();
+                throw new TooManyRequestsException("Too many authentication attempts.",
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1)));
+            }
+            allowed.increment();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.taskList.web.security;
+
+import com.example.taskList.domain.auth.RefreshToken;
+import com.example.taskList.service.RefreshTokenService;
+import com.example.taskList.service.props.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList implements SmartInitializingSingleton, SchedulingConfigurer {
+
+    private final RefreshTokenService refreshTokenService;
+    private final JwtProperties jwtProperties;
+
+    private volatile Revocations revocations;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::sync, jwtProperties.getRevocationSyncInterval());
+    }
+
+    public boolean isRevoked(UUID sessionId) {
+        Revocations current = revocations;
+        return current.filter.mightContain(sessionId)
+                && current.sessions.containsKey(sessionId);
+    }
+
+    public void revoke(UUID sessionId, LocalDateTime expiresAt) {
+        revocations.add(sessionId, expiresAt);
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        List<RefreshToken> revoked = refreshTokenService.getRevokedSessions();
+        LocalDateTime now = LocalDateTime.now();
+        Revocations previous = revocations;
+        int expected = revoked.size() + (previous == null ? 0 : previous.sessions.size());
+        Revocations next = new Revocations(
+                new BloomFilter(Math.max(jwtProperties.getRevocationExpectedSessions(), 2L * expected),
+                        jwtProperties.getRevocationFalsePositiveRate()),
+                new ConcurrentHashMap<>(Math.max(16, expected * 2))
+        );
+        for (RefreshToken token : revoked) {
+            next.add(token.getSessionId(), token.getExpiresAt());
+        }
+        if (previous != null) {
+            previous.sessions.forEach((sessionId, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    next.add(sessionId, expiresAt);
+                }
+            });
+        }
+        revocations = next;
+        if (previous != null) {
+            previous.sessions.forEach((sessionId, expiresAt) -> {
+                if (expiresAt.isAfter(now) && !next.sessions.containsKey(sessionId)) {
+                    next.add(sessionId, expiresAt);
+                }
+            });
+        }
+        log.debug("Rebuilt token revocation list with {} sessions in {} ms",
+                next.sessions.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void sync() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Token revocation list sync failed", e);
+        }
+    }
+
+    private record Revocations(BloomFilter filter, Map<UUID, LocalDateTime> sessions) {
+
+        private void add(UUID sessionId, LocalDateTime expiresAt) {
+            sessions.merge(sessionId, expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+            filter.put(sessionId);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+create index if not exists idx_users_tasks_task_id on users_tasks (task_id);
+
+create index if not exists idx_tasks_status_expiration_date on tasks (status, expiration_date);
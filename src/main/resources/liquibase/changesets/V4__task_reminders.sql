@@ -0,0 +1,13 @@
+create index if not exists idx_tasks_status_expiration_date_id on tasks (status, expiration_date, id);
+
+drop index if exists idx_tasks_status_expiration_date;
+
+create table if not exists task_reminder_watermark
+(
+    id int primary key,
+    scanned_until timestamp not null
+);
+
+insert into task_reminder_watermark (id, scanned_until)
+values (1, localtimestamp)
+on conflict (id) do nothing;
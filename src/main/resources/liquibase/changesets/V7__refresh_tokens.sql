@@ -0,0 +1,17 @@
+create table if not exists refresh_tokens
+(
+    jti uuid primary key,
+    session_id uuid not null,
+    user_id bigint not null,
+    expires_at timestamp not null,
+    used_at timestamp null,
+    revoked_at timestamp null,
+    constraint fk_refresh_tokens_users foreign key (user_id) references users (id) on delete cascade on update no action
+);
+
+create index if not exists idx_refresh_tokens_session_id on refresh_tokens (session_id);
+
+create index if not exists idx_refresh_tokens_user_id on refresh_tokens (user_id);
+
+create index if not exists idx_refresh_tokens_revoked_expires_at on refresh_tokens (expires_at)
+    where revoked_at is not null;
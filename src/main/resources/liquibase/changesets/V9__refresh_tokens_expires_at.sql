@@ -0,0 +1 @@
+create index if not exists idx_refresh_tokens_expires_at on refresh_tokens (expires_at);